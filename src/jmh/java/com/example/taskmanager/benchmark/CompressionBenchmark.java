@@ -0,0 +1,104 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.ApiResponse;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.model.Task;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Benchmarks writing a GET /tasks page the way the message converter does,
+ * straight from Jackson into the response stream, with and without the gzip
+ * compression enabled in the prod profile. Setup prints the bytes on the wire
+ * and the time they take to transfer at 10 and 100 Mbit/s, to weigh against
+ * the extra encode time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompressionBenchmark {
+
+    /** Tomcat's default compression buffer size. */
+    private static final int GZIP_BUFFER = 8192;
+
+    @Param({"50", "500"})
+    private int size;
+
+    @Param({"identity", "gzip"})
+    private String encoding;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<CursorPage<Task>> page;
+
+    /**
+     * Builds the page for the current size and reports its encoded size.
+     *
+     * @throws IOException if the page cannot be encoded
+     */
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task("Task " + i, "Description of task " + i + " ".repeat(100), i % 2 == 0);
+            task.setId((long) i);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        page = ApiResponse.success("Tasks retrieved successfully", new CursorPage<>(tasks, "next"));
+
+        long bytes = writePage();
+        System.out.printf("%n%s size=%d: %d bytes, %.2f ms at 10 Mbit/s, %.2f ms at 100 Mbit/s%n",
+                encoding, size, bytes, bytes * 8 / 10_000.0, bytes * 8 / 100_000.0);
+    }
+
+    @Benchmark
+    public long writePage() throws IOException {
+        CountingOutputStream wire = new CountingOutputStream();
+        if ("gzip".equals(encoding)) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(wire, GZIP_BUFFER)) {
+                objectMapper.writeValue(gzip, page);
+            }
+        } else {
+            objectMapper.writeValue(wire, page);
+        }
+        return wire.count;
+    }
+
+    /** Discards what is written and counts the bytes, standing in for the socket. */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
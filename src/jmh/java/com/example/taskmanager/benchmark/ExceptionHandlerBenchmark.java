@@ -0,0 +1,69 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.controller.TaskController;
+import com.example.taskmanager.dto.ErrorResponse;
+import com.example.taskmanager.exception.GlobalExceptionHandler;
+import com.example.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks GlobalExceptionHandler's bean-validation error path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    @Param({"1", "10"})
+    private int fieldErrors;
+
+    private GlobalExceptionHandler exceptionHandler;
+    private MethodArgumentNotValidException exception;
+    private WebRequest webRequest;
+
+    /**
+     * Builds a validation exception with the configured number of field errors.
+     *
+     * @throws NoSuchMethodException if the controller method cannot be found
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        exceptionHandler = new GlobalExceptionHandler();
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("POST", "/tasks"));
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Task(), "task");
+        for (int i = 0; i < fieldErrors; i++) {
+            bindingResult.addError(new FieldError("task", "title", "Title is required"));
+        }
+        MethodParameter parameter = new MethodParameter(
+                TaskController.class.getMethod("createTask", Task.class), 0);
+        exception = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleValidationException() {
+        return exceptionHandler.handleValidationExceptions(exception, webRequest);
+    }
+}
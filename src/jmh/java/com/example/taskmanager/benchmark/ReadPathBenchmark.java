@@ -0,0 +1,147 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.dto.ApiResponse;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks reading and serializing a 50-task page under three transaction
+ * boundaries: a read-write transaction inside an open-in-view session, which
+ * keeps the connection through serialization (the old default); a read-write
+ * transaction on its own; and the read-only transaction TaskService now uses.
+ * Caches are off so every page is read from H2. Teardown prints the bytes
+ * allocated per page and the mean time a pooled connection was held, from
+ * HikariCP's usage timer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int SEEDED_TASKS = 1_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int ALLOCATION_SAMPLE = 1_000;
+
+    @Param({"openInView", "readWrite", "readOnly"})
+    private String boundary;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transaction;
+    private ObjectMapper objectMapper;
+    private Timer connectionUsage;
+    private long baselineCount;
+    private double baselineMicros;
+
+    /**
+     * Starts the application without a web server or caches and seeds the task table.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.cache.type=none", "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=false")
+                .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.setReadOnly("readOnly".equals(boundary));
+        taskRepository.saveAll(IntStream.range(0, SEEDED_TASKS)
+                .mapToObj(i -> new Task("Task " + i, "Description " + i, i % 2 == 0))
+                .toList());
+        connectionUsage = context.getBean(MeterRegistry.class).find("hikaricp.connections.usage").timer();
+        if (connectionUsage != null) {
+            baselineCount = connectionUsage.count();
+            baselineMicros = connectionUsage.totalTime(TimeUnit.MICROSECONDS);
+        }
+    }
+
+    /**
+     * Measures allocation per page on this thread, prints it with the mean
+     * connection hold time over the whole trial, and stops the application.
+     *
+     * @throws IOException if a page cannot be serialized
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ALLOCATION_SAMPLE; i++) {
+            readPage();
+        }
+        long bytesPerPage = (threads.getCurrentThreadAllocatedBytes() - before) / ALLOCATION_SAMPLE;
+        String held = connectionUsage == null
+                ? "n/a"
+                : String.format("%.1f us", (connectionUsage.totalTime(TimeUnit.MICROSECONDS) - baselineMicros)
+                        / Math.max(1, connectionUsage.count() - baselineCount));
+        System.out.printf("%n%s: %d bytes allocated per page, connection held %s per page%n",
+                boundary, bytesPerPage, held);
+        context.close();
+    }
+
+    /**
+     * Reads a page and serializes it as the controller would.
+     *
+     * @return the serialized page
+     * @throws IOException if the page cannot be serialized
+     */
+    @Benchmark
+    public byte[] readPage() throws IOException {
+        if (!"openInView".equals(boundary)) {
+            return objectMapper.writeValueAsBytes(ApiResponse.success("Tasks retrieved successfully", findPage()));
+        }
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.success("Tasks retrieved successfully", findPage()));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(entityManager);
+        }
+    }
+
+    private List<Task> findPage() {
+        return transaction.execute(status -> taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(PAGE_SIZE)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.dto.ApiResponse;
+import com.example.taskmanager.dto.ErrorResponse;
+import com.example.taskmanager.model.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Jackson serialization of the response envelopes at different sizes
+ * and in each supported response format, using ObjectMappers configured the same
+ * way Spring Boot configures its own. The encoded size of each payload is printed
+ * during setup, next to the timing results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<Task>> taskList;
+    private ErrorResponse errorResponse;
+
+    /**
+     * Builds the mapper for the current format and the payloads for the current size.
+     *
+     * @throws JsonProcessingException if a payload cannot be encoded
+     */
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+        List<Task> tasks = new ArrayList<>(size);
+        List<String> errors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Task task = new Task("Task " + i, "Description of task " + i + " ".repeat(100), i % 2 == 0);
+            task.setId((long) i);
+            task.setVersion(0L);
+            tasks.add(task);
+            errors.add("field" + i + ": must not be blank");
+        }
+        taskList = ApiResponse.success("Tasks retrieved successfully", tasks);
+        errorResponse = new ErrorResponse("Validation failed", errors);
+        System.out.printf("%n%s size=%d: task list %d bytes, error response %d bytes%n", format, size,
+                serializeTaskList().length, serializeErrorResponse().length);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskList);
+    }
+
+    @Benchmark
+    public byte[] serializeErrorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
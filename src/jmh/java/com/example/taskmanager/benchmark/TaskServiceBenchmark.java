@@ -0,0 +1,89 @@
+package com.example.taskmanager.benchmark;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks TaskService CRUD operations against the embedded H2 database,
+ * with the task cache disabled so every call reaches the repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int SEEDED_TASKS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Long existingId;
+
+    /**
+     * Starts the application without a web server and seeds the task table.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.cache.type=none", "spring.jpa.show-sql=false")
+                .run();
+        taskService = context.getBean(TaskService.class);
+        for (int i = 0; i < SEEDED_TASKS; i++) {
+            existingId = taskService.createTask(new Task("Task " + i, "Description " + i, i % 2 == 0)).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Task getTaskById() {
+        return taskService.getTaskById(existingId);
+    }
+
+    @Benchmark
+    public CursorPage<Task> getTaskPage() {
+        return taskService.getTaskPage(null, 50);
+    }
+
+    @Benchmark
+    public Task updateTask() {
+        return taskService.updateTask(existingId, new Task("Updated title", "Updated description", true), null);
+    }
+
+    /**
+     * Creates a task and deletes it again, keeping the table size stable.
+     *
+     * @return the id of the created task
+     */
+    @Benchmark
+    public Long createAndDeleteTask() {
+        Long id = taskService.createTask(new Task("Benchmark task", "Benchmark description", false)).getId();
+        taskService.deleteTask(id, null);
+        return id;
+    }
+}
@@ -2,11 +2,16 @@ package com.example.taskmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 
 /**
  * Main application class for the Task Manager.
+ * The cache advice is ordered before the transaction advice, so a cache hit
+ * returns without opening a transaction or taking a connection.
  */
 @SpringBootApplication
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
 public class TaskManagerApplication {
 
     /**
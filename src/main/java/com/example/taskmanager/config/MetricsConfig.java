@@ -0,0 +1,20 @@
+package com.example.taskmanager.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration: enables {@code @Timed} on service methods. Hibernate
+ * statistics are bound by Spring Boot's HibernateMetricsAutoConfiguration,
+ * because hibernate-micrometer is on the classpath.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
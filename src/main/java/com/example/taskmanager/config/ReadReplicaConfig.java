@@ -0,0 +1,100 @@
+package com.example.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Read replica support, active when {@code spring.datasource.replica.url} is
+ * set. Replaces Spring Boot's single data source with a primary pool, a
+ * replica pool and a routing data source in front of them: read-only
+ * transactions use the replica, everything else the primary.
+ *
+ * <p>The replica pool takes its credentials from
+ * {@code spring.datasource.replica.username}/{@code password}, falling back to
+ * the primary's, and its pool settings from {@code spring.datasource.replica.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    /**
+     * Creates the primary pool from the usual {@code spring.datasource.*} properties.
+     *
+     * @param properties Spring Boot's data source properties
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Creates the replica pool.
+     *
+     * @param properties Spring Boot's data source properties, for the driver and fallback credentials
+     * @param url        the replica JDBC URL
+     * @param username   the replica username, empty to use the primary's
+     * @param password   the replica password, used only with a replica username
+     * @return the replica pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:}") String username,
+            @Value("${spring.datasource.replica.password:}") String password) {
+        boolean ownCredentials = !username.isEmpty();
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(ownCredentials ? username : properties.determineUsername())
+                .password(ownCredentials ? password : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Creates the data source used by JPA and JDBC. The lazy proxy defers
+     * choosing a pool until the first statement, by which time the
+     * transaction's read-only flag is known.
+     *
+     * @param primary the primary pool
+     * @param replica the replica pool
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+    }
+
+    /**
+     * Pins a client's reads to the primary for a while after each of its writes.
+     *
+     * @param lag how long the replica may lag behind the primary
+     * @return the read-your-writes filter
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${spring.datasource.replica.lag:5s}") Duration lag) {
+        return new ReadYourWritesFilter(lag);
+    }
+}
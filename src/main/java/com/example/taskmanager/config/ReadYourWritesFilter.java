@@ -0,0 +1,81 @@
+package com.example.taskmanager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes for replica routing. A request that may write sets a
+ * cookie holding the time until which that client's reads should go to the
+ * primary; requests carrying an unexpired cookie are pinned to the primary,
+ * so a client reading right after its own write does not see the replica's
+ * older copy. Clients that do not keep cookies read from the replica as soon
+ * as their write returns.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /** Name of the cookie carrying the pin expiry, in epoch milliseconds. */
+    public static final String COOKIE = "task-primary-until";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final long windowMillis;
+
+    /**
+     * Constructs a ReadYourWritesFilter.
+     *
+     * @param window how long after a write the client's reads stay on the primary
+     */
+    public ReadYourWritesFilter(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (!READ_METHODS.contains(request.getMethod())) {
+            Cookie cookie = new Cookie(COOKIE, Long.toString(now + windowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+            response.addCookie(cookie);
+            ReplicaRoutingDataSource.pinToPrimary();
+        } else if (isPinned(pinnedUntil(request), now)) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.unpin();
+        }
+    }
+
+    /** A cookie further in the future than one window was not set by this filter and is ignored. */
+    private boolean isPinned(long until, long now) {
+        return until > now && until <= now + windowMillis;
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return 0;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
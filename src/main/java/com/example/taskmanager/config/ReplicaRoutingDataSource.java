@@ -0,0 +1,104 @@
+package com.example.taskmanager.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for read-only transactions to the read replica and all
+ * others to the primary. A thread can be pinned to the primary, which
+ * {@link ReadYourWritesFilter} does for clients that have just written, and
+ * which {@link #readFromPrimary} does for reads that must see the latest commit.
+ *
+ * <p>The routing decision needs the transaction's read-only flag, which Spring
+ * sets only after the transaction has begun, so this data source must sit
+ * behind a LazyConnectionDataSourceProxy.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PINNED = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Constructs a ReplicaRoutingDataSource.
+     *
+     * @param primary the data source for writes and for pinned threads
+     * @param replica the data source for read-only transactions
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Routes the current thread's connections to the primary, even in
+     * read-only transactions, until {@link #unpin()} is called.
+     */
+    public static void pinToPrimary() {
+        PINNED.set(true);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get();
+    }
+
+    /**
+     * Runs a read on the primary and then restores the thread's previous
+     * routing. Used for reads that must see writes committed just before,
+     * such as re-reading tasks to refresh derived state, which a lagging
+     * replica may not have yet.
+     *
+     * @param read the read, which must not have touched the database yet in this transaction
+     * @param <T>  the result type
+     * @return the read's result
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        boolean pinned = PINNED.get();
+        PINNED.set(true);
+        try {
+            return read.get();
+        } finally {
+            if (!pinned) {
+                PINNED.remove();
+            }
+        }
+    }
+
+    /**
+     * Tells whether the given persistence unit's connections come through a
+     * ReplicaRoutingDataSource, that is, whether a read replica is configured.
+     *
+     * @param entityManagerFactory the persistence unit, may be null
+     * @return true if read-only transactions of the persistence unit may use a replica
+     */
+    public static boolean isInstalled(EntityManagerFactory entityManagerFactory) {
+        if (!(entityManagerFactory instanceof EntityManagerFactoryInfo info) || info.getDataSource() == null) {
+            return false;
+        }
+        try {
+            return info.getDataSource().isWrapperFor(ReplicaRoutingDataSource.class);
+        } catch (SQLException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PINNED.get()
+                ? REPLICA
+                : PRIMARY;
+    }
+}
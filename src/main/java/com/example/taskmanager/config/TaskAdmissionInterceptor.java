@@ -0,0 +1,100 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission limiter in front of TaskController. At most max-concurrent
+ * requests are handled at once; a request that cannot get a permit within
+ * the queue timeout is rejected with 503 and Retry-After. The limit is set
+ * just under the connection pool size, so excess load is shed here, cheaply,
+ * instead of queueing inside the pool until connection-timeout.
+ *
+ * <p>An async request such as the export keeps its permit until the response
+ * has been written, because it holds a connection for that long.
+ */
+@Component
+public class TaskAdmissionInterceptor implements AsyncHandlerInterceptor, MeterBinder {
+
+    private static final String ADMITTED = TaskAdmissionInterceptor.class.getName() + ".admitted";
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final long queueTimeoutMs;
+    private final Semaphore permits;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Constructs a TaskAdmissionInterceptor.
+     *
+     * @param enabled       whether to limit at all
+     * @param maxConcurrent the maximum number of requests handled at once
+     * @param queueTimeout  how long a request may wait for a permit before it is shed
+     */
+    @Autowired
+    public TaskAdmissionInterceptor(@Value("${task.admission.enabled:true}") boolean enabled,
+            @Value("${task.admission.max-concurrent:10}") int maxConcurrent,
+            @Value("${task.admission.queue-timeout:50ms}") Duration queueTimeout) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("task.admission.max-concurrent must be at least 1");
+        }
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.queueTimeoutMs = queueTimeout.toMillis();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws InterruptedException {
+        if (!enabled || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        if (!permits.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS)) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Server is busy, retry later", 1);
+        }
+        request.setAttribute(ADMITTED, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Releases the request's permit. For an async request this runs after the
+     * async dispatch, not when the handler first returns.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getAttribute(ADMITTED) != null) {
+            request.removeAttribute(ADMITTED);
+            permits.release();
+        }
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.admission.in_flight", this, TaskAdmissionInterceptor::getInFlight)
+                .register(registry);
+        Gauge.builder("tasks.admission.limit", () -> maxConcurrent).register(registry);
+        FunctionCounter.builder("tasks.admission.rejected", rejected, LongAdder::sum).register(registry);
+    }
+}
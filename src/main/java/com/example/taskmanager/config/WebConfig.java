@@ -0,0 +1,65 @@
+package com.example.taskmanager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary response formats: clients sending {@code Accept: application/cbor} or
+ * {@code Accept: application/x-jackson-smile} get the same ApiResponse and
+ * ErrorResponse envelopes in that encoding, and may send request bodies in it.
+ * JSON stays first, so it is still the default when a client accepts any type.
+ * Also puts the admission limiter in front of the task endpoints.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /** Media type of Jackson's Smile encoding. */
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+    private final TaskAdmissionInterceptor admissionInterceptor;
+
+    /**
+     * Constructs a WebConfig.
+     *
+     * @param objectMapperBuilder  Spring Boot's builder, so the binary mappers share the spring.jackson.* settings
+     * @param admissionInterceptor the admission limiter for the task endpoints
+     */
+    @Autowired
+    public WebConfig(Jackson2ObjectMapperBuilder objectMapperBuilder, TaskAdmissionInterceptor admissionInterceptor) {
+        this.objectMapperBuilder = objectMapperBuilder;
+        this.admissionInterceptor = admissionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor).addPathPatterns("/tasks", "/tasks/**");
+    }
+
+    /**
+     * Replaces Spring's default CBOR and Smile converters, if present, with ones
+     * built from the application's Jackson configuration.
+     *
+     * @param converters the converters configured so far
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.factory(new SmileFactory()).build()));
+    }
+}
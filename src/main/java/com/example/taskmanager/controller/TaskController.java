@@ -1,11 +1,27 @@
 package com.example.taskmanager.controller;
 
 import com.example.taskmanager.dto.ApiResponse;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.dto.TaskBatchRequest;
+import com.example.taskmanager.dto.TaskBatchResult;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.dto.TaskStats;
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.service.TaskFields;
 import com.example.taskmanager.service.TaskService;
+import com.example.taskmanager.service.TaskWriteBehind;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,88 +29,234 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST controller for managing tasks.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/tasks")
 public class TaskController {
 
+    /** Media type for newline-delimited JSON exports. */
+    public static final String NDJSON = "application/x-ndjson";
+
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskWriteBehind writeBehind;
 
+    /**
+     * Constructs a TaskController.
+     *
+     * @param taskService the task service
+     * @param objectMapper the JSON mapper used by the export
+     * @param writeBehind the write-behind queue, available only when enabled
+     */
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper,
+            ObjectProvider<TaskWriteBehind> writeBehind) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.writeBehind = writeBehind.getIfAvailable();
     }
 
     /**
-     * Retrieves all tasks.
+     * Retrieves a page of tasks using keyset pagination, optionally filtered and sorted.
      *
-     * @return response entity containing list of all tasks
+     * @param query  the filter and sort criteria, bound from query parameters
+     * @param cursor the opaque cursor returned with the previous page, absent for the first page
+     * @param size   the number of tasks per page
+     * @param fields comma-separated task fields to return, absent for all fields
+     * @param accept the Accept header, which selects the encoding the ETag describes
+     * @return response entity containing the page of tasks and the next cursor, or 304 if unchanged
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Task>>> getAllTasks() {
-        List<Task> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(
-                ApiResponse.success("Tasks retrieved successfully", tasks));
+    public ResponseEntity<ApiResponse<CursorPage<?>>> getAllTasks(
+            TaskQuery query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "${task.pagination.default-size:50}") int size,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Set<String> fieldSet = TaskFields.parse(fields);
+        MediaType encoding = TaskETags.negotiate(accept);
+        if (fieldSet != null) {
+            CursorPage<SparseTask> page = taskService.findTasks(query, cursor, size, fieldSet);
+            return ResponseEntity.ok()
+                    .eTag(TaskETags.ofSparse(page.getItems(), page.getNextCursor(), fieldSet, encoding))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(ApiResponse.success("Tasks retrieved successfully", page));
+        }
+        CursorPage<Task> page = taskService.findTasks(query, cursor, size);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(page.getItems(), page.getNextCursor(), encoding))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.success("Tasks retrieved successfully", page));
+    }
+
+    /**
+     * Retrieves the total, completed and open task counts.
+     *
+     * @return response entity containing the task counts
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<TaskStats>> getTaskStats() {
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.success("Task stats retrieved successfully", taskService.getTaskStats()));
+    }
+
+    /**
+     * Searches task titles and descriptions, best match first.
+     *
+     * @param q      the search terms
+     * @param cursor the opaque cursor returned with the previous page, absent for the first page
+     * @param size   the number of tasks per page
+     * @return response entity containing the page of matching tasks and the next cursor
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CursorPage<Task>>> searchTasks(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "${task.pagination.default-size:50}") int size) {
+        CursorPage<Task> page = taskService.searchTasks(q, cursor, size);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.success("Tasks retrieved successfully", page));
+    }
+
+    /**
+     * Exports every task as newline-delimited JSON, one task per line.
+     * Tasks are written straight to the response stream as they are read,
+     * so the full result set is never held in memory. One generator is used
+     * for the whole export and never flushes per task, so output leaves in
+     * full buffers and, when compressed, in full deflate blocks.
+     *
+     * @return response entity streaming all tasks
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportTasks() {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                taskService.exportTasks(task -> {
+                    try {
+                        writer.writeValue(generator, task);
+                        generator.writeRaw('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
     }
 
     /**
      * Retrieves a task by ID.
      *
-     * @param id the task ID
-     * @return response entity containing the task
+     * A matching If-None-Match header is answered with 304 Not Modified
+     * without serializing the body.
+     *
+     * @param id     the task ID
+     * @param accept the Accept header, which selects the encoding the ETag describes
+     * @return response entity containing the task and its ETag
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<Task>> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<Task>> getTaskById(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(
-                ApiResponse.success("Task retrieved successfully", task));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(task, TaskETags.negotiate(accept)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.success("Task retrieved successfully", task));
     }
 
     /**
-     * Creates a new task.
+     * Creates a new task. With the write-behind queue enabled the task is only
+     * queued: the response is 202 Accepted with the id the task will have and
+     * its location, and the row is written shortly after. A full queue is
+     * answered with 429 Too Many Requests.
      *
      * @param task the task to create
-     * @return response entity with success message
+     * @return response entity with success message, and the accepted task when queued
      */
     @PostMapping
-    public ResponseEntity<ApiResponse<Void>> createTask(@Valid @RequestBody Task task) {
+    public ResponseEntity<ApiResponse<Task>> createTask(@Valid @RequestBody Task task) {
+        if (writeBehind != null) {
+            Task accepted = writeBehind.enqueue(task);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/tasks/" + accepted.getId()))
+                    .body(ApiResponse.success("Task accepted for creation", accepted));
+        }
         taskService.createTask(task);
         return ResponseEntity.status(HttpStatus.CREATED).body(
                 ApiResponse.success("Task created successfully"));
     }
 
     /**
-     * Updates an existing task.
+     * Creates, updates and deletes tasks in bulk within a single transaction.
+     *
+     * @param request the tasks to create, update and delete
+     * @return response entity containing one result per item
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<TaskBatchResult>>> processBatch(
+            @Valid @RequestBody TaskBatchRequest request) {
+        List<TaskBatchResult> results = taskService.processBatch(request);
+        return ResponseEntity.ok(
+                ApiResponse.success("Batch processed successfully", results));
+    }
+
+    /**
+     * Updates an existing task. With an If-Match header the update only
+     * applies if the task still has that ETag.
      *
      * @param id          the task ID
      * @param taskDetails the updated task details
-     * @return response entity with success message
+     * @param ifMatch     the ETag the client last saw, optional
+     * @param accept      the Accept header, which selects the encoding the new ETag describes
+     * @return response entity with success message and the new ETag
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody Task taskDetails) {
-        taskService.updateTask(id, taskDetails);
-        return ResponseEntity.ok(
-                ApiResponse.success("Task updated successfully"));
+            @Valid @RequestBody Task taskDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Task task = taskService.updateTask(id, taskDetails, TaskETags.expectedVersion(ifMatch, id));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (task.getVersion() != null) {
+            response.eTag(TaskETags.of(task, TaskETags.negotiate(accept)));
+        }
+        return response.body(ApiResponse.success("Task updated successfully"));
     }
 
     /**
-     * Deletes a task by ID.
+     * Deletes a task by ID. With an If-Match header the delete only applies
+     * if the task still has that ETag.
      *
-     * @param id the task ID
+     * @param id      the task ID
+     * @param ifMatch the ETag the client last saw, optional
      * @return response entity with success message
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<ApiResponse<Void>> deleteTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch, id));
         return ResponseEntity.ok(
                 ApiResponse.success("Task deleted successfully"));
     }
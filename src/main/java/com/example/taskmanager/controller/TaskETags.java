@@ -0,0 +1,151 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.config.WebConfig;
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.model.Task;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds and parses the strong ETags used for conditional task requests.
+ * A task's ETag is derived from its id and version column, and a page's ETag
+ * from the ids and versions of its tasks, so neither requires serializing the body.
+ *
+ * <p>JSON, CBOR and Smile bodies of the same task are different byte
+ * sequences, so each encoding gets its own tag: JSON tags are unchanged and
+ * the binary ones end in {@code -cbor} or {@code -smile}. Responses carrying
+ * these tags must also send {@code Vary: Accept}.
+ */
+final class TaskETags {
+
+    /** The encodings a task response can be negotiated into, in the message converters' order. */
+    private static final List<MediaType> ENCODINGS =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, WebConfig.APPLICATION_SMILE);
+
+    private static final Map<MediaType, String> SUFFIXES = Map.of(
+            MediaType.APPLICATION_JSON, "",
+            MediaType.APPLICATION_CBOR, "-cbor",
+            WebConfig.APPLICATION_SMILE, "-smile");
+
+    private TaskETags() {
+    }
+
+    static String of(Task task, MediaType encoding) {
+        return "\"" + task.getId() + "-" + task.getVersion() + SUFFIXES.get(encoding) + "\"";
+    }
+
+    static String of(List<Task> tasks, String nextCursor, MediaType encoding) {
+        long hash = 1125899906842597L;
+        for (Task task : tasks) {
+            hash = mix(hash, task.getId(), task.getVersion());
+        }
+        return page(hash, tasks.size(), nextCursor, encoding);
+    }
+
+    /**
+     * Builds the ETag of a page of sparse tasks. The field list is part of the
+     * tag, since the same tasks with other fields are a different representation.
+     *
+     * @param tasks      the sparse tasks of the page
+     * @param nextCursor the cursor of the next page, may be null
+     * @param fields     the fields returned
+     * @param encoding   the negotiated encoding, as returned by {@link #negotiate}
+     * @return the ETag
+     */
+    static String ofSparse(List<SparseTask> tasks, String nextCursor, Set<String> fields, MediaType encoding) {
+        long hash = 31 * 1125899906842597L + fields.hashCode();
+        for (SparseTask task : tasks) {
+            hash = mix(hash, task.getId(), task.getVersion());
+        }
+        return page(hash, tasks.size(), nextCursor, encoding);
+    }
+
+    /**
+     * Picks the encoding a response will be written in, the way content
+     * negotiation does: the accepted types in order of quality, then
+     * specificity, each matched against the encodings in converter order.
+     *
+     * @param accept the Accept header, may be null
+     * @return JSON, CBOR or Smile; JSON when nothing else is asked for
+     */
+    static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return MediaType.APPLICATION_JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed()
+                .thenComparing(MediaType::isWildcardType)
+                .thenComparing(MediaType::isWildcardSubtype));
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                break;
+            }
+            for (MediaType encoding : ENCODINGS) {
+                if (type.includes(encoding)) {
+                    return encoding;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    private static long mix(long hash, Long id, Long version) {
+        hash = 31 * hash + id;
+        return 31 * hash + (version == null ? 0 : version);
+    }
+
+    private static String page(long hash, int size, String nextCursor, MediaType encoding) {
+        if (nextCursor != null) {
+            hash = 31 * hash + nextCursor.hashCode();
+        }
+        return "\"" + Long.toHexString(hash) + "-" + size + SUFFIXES.get(encoding) + "\"";
+    }
+
+    /**
+     * Extracts the expected task version from an If-Match header. A tag of any
+     * encoding is accepted, since they all name the same version.
+     *
+     * @param ifMatch the header value, may be null
+     * @param id      the id of the task the request targets
+     * @return the expected version, or null when the header is absent or "*"
+     * @throws PreconditionFailedException if the header does not match the task
+     */
+    static Long expectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new PreconditionFailedException("Weak ETags cannot be used with If-Match");
+        }
+        String prefix = "\"" + id + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException("Task", id);
+        }
+        String value = tag.substring(prefix.length(), tag.length() - 1);
+        int suffix = value.indexOf('-');
+        if (suffix >= 0) {
+            if (!SUFFIXES.containsValue(value.substring(suffix))) {
+                throw new PreconditionFailedException("Task", id);
+            }
+            value = value.substring(0, suffix);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("Task", id);
+        }
+    }
+}
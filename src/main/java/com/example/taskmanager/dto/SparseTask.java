@@ -0,0 +1,41 @@
+package com.example.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Map;
+
+/**
+ * A task reduced to the fields a client asked for. Serializes as just those
+ * fields; the id and version are kept aside for ETags and cursors.
+ */
+public class SparseTask {
+    private final Long id;
+    private final Long version;
+    private final Map<String, Object> fields;
+
+    /**
+     * Constructs a SparseTask.
+     *
+     * @param id      the task ID
+     * @param version the task version
+     * @param fields  the requested fields by name, in output order
+     */
+    public SparseTask(Long id, Long version, Map<String, Object> fields) {
+        this.id = id;
+        this.version = version;
+        this.fields = fields;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    @JsonValue
+    public Map<String, Object> getFields() {
+        return fields;
+    }
+}
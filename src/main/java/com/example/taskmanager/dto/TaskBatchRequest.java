@@ -0,0 +1,61 @@
+package com.example.taskmanager.dto;
+
+import com.example.taskmanager.model.Task;
+import jakarta.validation.Valid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request body for bulk task operations. Any of the lists may be omitted.
+ */
+public class TaskBatchRequest {
+    private List<@Valid Task> create = new ArrayList<>();
+    private List<@Valid Task> update = new ArrayList<>();
+    private List<Long> delete = new ArrayList<>();
+
+    public TaskBatchRequest() {
+    }
+
+    /**
+     * Constructs a TaskBatchRequest with the tasks to create, update and delete.
+     *
+     * @param create the tasks to create
+     * @param update the tasks to update, each carrying its id
+     * @param delete the ids of the tasks to delete
+     */
+    public TaskBatchRequest(List<Task> create, List<Task> update, List<Long> delete) {
+        this.create = create;
+        this.update = update;
+        this.delete = delete;
+    }
+
+    public int size() {
+        return create.size() + update.size() + delete.size();
+    }
+
+    // Getters and Setters
+    public List<Task> getCreate() {
+        return create;
+    }
+
+    public void setCreate(List<Task> create) {
+        this.create = create == null ? new ArrayList<>() : create;
+    }
+
+    public List<Task> getUpdate() {
+        return update;
+    }
+
+    public void setUpdate(List<Task> update) {
+        this.update = update == null ? new ArrayList<>() : update;
+    }
+
+    public List<Long> getDelete() {
+        return delete;
+    }
+
+    public void setDelete(List<Long> delete) {
+        this.delete = delete == null ? new ArrayList<>() : delete;
+    }
+}
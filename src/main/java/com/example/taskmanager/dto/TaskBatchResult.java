@@ -0,0 +1,74 @@
+package com.example.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of a single item in a bulk task request.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchResult {
+    private String operation;
+    private Long id;
+    private String status;
+    private String message;
+
+    public TaskBatchResult() {
+    }
+
+    /**
+     * Constructs a TaskBatchResult.
+     *
+     * @param operation the operation applied (create, update or delete)
+     * @param id        the task ID
+     * @param status    the item status
+     * @param message   an optional message, null on success
+     */
+    public TaskBatchResult(String operation, Long id, String status, String message) {
+        this.operation = operation;
+        this.id = id;
+        this.status = status;
+        this.message = message;
+    }
+
+    public static TaskBatchResult success(String operation, Long id) {
+        return new TaskBatchResult(operation, id, "success", null);
+    }
+
+    public static TaskBatchResult notFound(String operation, Long id) {
+        return new TaskBatchResult(operation, id, "not_found",
+                String.format("Task not found with id: %d", id));
+    }
+
+    // Getters and Setters
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
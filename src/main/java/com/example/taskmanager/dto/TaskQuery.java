@@ -0,0 +1,115 @@
+package com.example.taskmanager.dto;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter and sort criteria for task listings, bound from query parameters.
+ * Every filter is optional; time ranges are inclusive of their lower bound
+ * and exclusive of their upper bound.
+ */
+public class TaskQuery {
+    private Boolean completed;
+    private String titlePrefix;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedTo;
+    private String sort = "id";
+    private String direction = "asc";
+
+    public TaskQuery() {
+    }
+
+    /**
+     * Returns whether this query is the plain listing: no filters, ascending by id.
+     *
+     * @return true if no filter is set and the sort is the default
+     */
+    public boolean isUnfiltered() {
+        return completed == null && isFilteredByCompletionOnly();
+    }
+
+    /**
+     * Returns whether this query sets no filter other than completion status
+     * and uses the default sort, ascending by id.
+     *
+     * @return true if every filter except completed is unset and the sort is the default
+     */
+    public boolean isFilteredByCompletionOnly() {
+        return (titlePrefix == null || titlePrefix.isEmpty())
+                && createdFrom == null && createdTo == null
+                && updatedFrom == null && updatedTo == null
+                && "id".equals(sort) && "asc".equalsIgnoreCase(direction);
+    }
+
+    // Getters and Setters
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public String getTitlePrefix() {
+        return titlePrefix;
+    }
+
+    public void setTitlePrefix(String titlePrefix) {
+        this.titlePrefix = titlePrefix;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public void setDirection(String direction) {
+        this.direction = direction;
+    }
+}
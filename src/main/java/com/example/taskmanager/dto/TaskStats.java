@@ -0,0 +1,51 @@
+package com.example.taskmanager.dto;
+
+/**
+ * Task counts for dashboards.
+ */
+public class TaskStats {
+    private long total;
+    private long completed;
+    private long open;
+
+    public TaskStats() {
+    }
+
+    /**
+     * Constructs a TaskStats; the open count is derived from the other two.
+     * Takes wrapper types so it can be used in a JPQL constructor expression.
+     *
+     * @param total     the number of tasks
+     * @param completed the number of completed tasks, null when there are none
+     */
+    public TaskStats(Long total, Long completed) {
+        this.total = total;
+        this.completed = completed == null ? 0L : completed;
+        this.open = this.total - this.completed;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(long completed) {
+        this.completed = completed;
+    }
+
+    public long getOpen() {
+        return open;
+    }
+
+    public void setOpen(long open) {
+        this.open = open;
+    }
+}
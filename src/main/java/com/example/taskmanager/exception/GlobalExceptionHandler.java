@@ -1,23 +1,33 @@
 package com.example.taskmanager.exception;
 
 import com.example.taskmanager.dto.ErrorResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import java.sql.SQLTransientConnectionException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Global exception handler for the application.
  */
 @ControllerAdvice
+@Profile("!reactive")
 public class GlobalExceptionHandler {
 
+    /** Seconds a client is asked to wait after a 503. */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
@@ -25,6 +35,93 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    /**
+     * Handles write conflicts that could not be resolved by retrying.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return error response with CONFLICT status
+     */
+    @ExceptionHandler({TaskConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflictException(
+            RuntimeException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Task was modified concurrently, please retry",
+                Collections.singletonList(ex.getMessage()));
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles task creations rejected because the write-behind queue is full.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return error response with TOO_MANY_REQUESTS status and a Retry-After header
+     */
+    @ExceptionHandler(TaskQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleTaskQueueFullException(
+            TaskQueueFullException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles requests shed by the admission limiter.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return error response with SERVICE_UNAVAILABLE status and a Retry-After header
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles failures to start a transaction. When the cause is the pool's
+     * connection-timeout expiring while every connection is in use, the
+     * request can be retried once load drops, so this is a 503, not a 500.
+     * Any other cause is a real failure and is handled as one.
+     *
+     * @param ex      the exception
+     * @param request the web request
+     * @return error response with SERVICE_UNAVAILABLE status and a Retry-After header,
+     *         or INTERNAL_SERVER_ERROR status
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(
+            CannotCreateTransactionException ex, WebRequest request) {
+        if (!isConnectionTimeout(ex)) {
+            return handleGlobalException(ex, request);
+        }
+        ErrorResponse errorResponse = new ErrorResponse("Database connection unavailable, retry later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS))
+                .body(errorResponse);
+    }
+
+    private static boolean isConnectionTimeout(Throwable ex) {
+        for (Throwable cause = ex.getCause(); cause != null && cause != cause.getCause(); cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @ExceptionHandler(TaskValidationException.class)
     public ResponseEntity<ErrorResponse> handleTaskValidationException(
             TaskValidationException ex, WebRequest request) {
@@ -0,0 +1,14 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Exception thrown when a conditional request's If-Match precondition does not hold.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+
+    public PreconditionFailedException(String resourceName, Long id) {
+        super(String.format("%s with id %d has been modified", resourceName, id));
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Exception thrown when a request is shed because the server is at capacity.
+ * Clients should back off and retry.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Exception thrown when a write keeps losing optimistic-locking races and
+ * cannot be retried any further.
+ */
+public class TaskConflictException extends RuntimeException {
+    public TaskConflictException(String message) {
+        super(message);
+    }
+
+    public TaskConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.taskmanager.exception;
+
+/**
+ * Exception thrown when the write-behind queue has no room for another task.
+ * Clients should back off and retry.
+ */
+public class TaskQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TaskQueueFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
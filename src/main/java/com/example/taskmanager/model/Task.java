@@ -1,20 +1,64 @@
 package com.example.taskmanager.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.time.LocalDateTime;
 
 /**
  * Entity representing a task.
+ * The indexes match the filtered and sorted listings: each one leads with the
+ * filter or sort column and ends with id, the keyset tie-breaker. The title
+ * prefix filter uses idx_task_title_prefix, a text_pattern_ops index that JPA
+ * cannot declare; it is created by db/task-timestamps-postgresql.sql.
+ *
+ * <p>Tasks are kept in the Hibernate second-level cache region
+ * {@value #CACHE_REGION} with the read-write strategy, so loads by id skip
+ * JDBC while the entry is fresh and never see a half-committed update.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
+@Table(indexes = {
+    @Index(name = "idx_task_completed_id", columnList = "completed, id"),
+    @Index(name = "idx_task_completed_created", columnList = "completed, created_at, id"),
+    @Index(name = "idx_task_completed_updated", columnList = "completed, updated_at, id"),
+    @Index(name = "idx_task_created", columnList = "created_at, id"),
+    @Index(name = "idx_task_updated", columnList = "updated_at, id"),
+    @Index(name = "idx_task_title", columnList = "title, id")
+})
 public class Task {
 
+    /** Second-level cache region holding tasks by id. */
+    public static final String CACHE_REGION = "task";
+
+    /** Query cache region for the task queries that opt in to result caching. */
+    public static final String QUERY_CACHE_REGION = "task-queries";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @GenericGenerator(name = "task_seq", type = TaskIdGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "task_seq"),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+        @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled")
+    })
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -26,6 +70,21 @@ public class Task {
 
     private boolean completed;
 
+    @Version
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime updatedAt;
+
     public Task() {
     }
 
@@ -73,4 +132,28 @@ public class Task {
     public void setCompleted(boolean completed) {
         this.completed = completed;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.taskmanager.model;
+
+/**
+ * Closed projection of a task for list views. Derived queries returning it
+ * select only these columns, leaving the description and timestamps unread.
+ */
+public interface TaskSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    boolean isCompleted();
+
+    Long getVersion();
+}
@@ -1,12 +1,112 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskStats;
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for Task entity.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    /**
+     * Loads every task. The result is kept in the query cache until the task
+     * table is next written, and the tasks themselves come from the
+     * second-level cache where present.
+     *
+     * @return all tasks
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Task.QUERY_CACHE_REGION)
+    })
+    List<Task> findAll();
+
+    /**
+     * Keyset query for cursor pagination: seeks past the given id on the primary
+     * key index and reads at most {@code limit} rows, without any OFFSET.
+     *
+     * @param id    the id to continue after
+     * @param limit the maximum number of rows to return
+     * @return tasks with an id greater than the given one, in id order
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Task.QUERY_CACHE_REGION)
+    })
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Same keyset query as {@link #findByIdGreaterThanOrderByIdAsc} but selecting
+     * only the columns of {@link TaskSummary}.
+     *
+     * @param id    the id to continue after
+     * @param limit the maximum number of rows to return
+     * @return task summaries with an id greater than the given one, in id order
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Task.QUERY_CACHE_REGION)
+    })
+    List<TaskSummary> findSummariesByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Streams every task in id order over a server-side cursor. Rows are fetched
+     * from the driver in fixed-size chunks and loaded read-only, so the caller
+     * must consume the stream inside a transaction and close it when done.
+     * The second-level cache is bypassed, so a full scan does not flush out
+     * the tasks that are actually read repeatedly.
+     *
+     * @return a stream over all tasks
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAll();
+
+    /**
+     * Counts all tasks and completed tasks in one aggregate query, without
+     * loading any rows.
+     *
+     * @return the task counts
+     */
+    @Query("select new com.example.taskmanager.dto.TaskStats(count(t), "
+            + "sum(case when t.completed = true then 1L else 0L end)) from Task t")
+    TaskStats countStats();
+
+    /**
+     * PostgreSQL full-text search over the generated {@code search_vector} column,
+     * which weights title words above description words. The match uses the GIN
+     * index; only matching rows are ranked. Requires
+     * {@code db/task-search-postgresql.sql} and does not run on H2.
+     *
+     * @param terms  the search terms, in web-search syntax
+     * @param offset the number of results to skip
+     * @param limit  the maximum number of results to return
+     * @return the matching tasks, best match first, ties broken by id
+     */
+    @Query(value = "select t.* from task t, websearch_to_tsquery('english', :terms) q "
+            + "where t.search_vector @@ q "
+            + "order by ts_rank(t.search_vector, q) desc, t.id "
+            + "limit :limit offset :offset", nativeQuery = true)
+    List<Task> searchFullText(@Param("terms") String terms,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
 }
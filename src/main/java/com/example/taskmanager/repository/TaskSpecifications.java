@@ -0,0 +1,103 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Specifications for filtered and keyset-paginated task queries.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Combines every filter set on the query; unset filters are ignored.
+     *
+     * @param query the filter criteria
+     * @return a specification matching all set filters
+     */
+    public static Specification<Task> matching(TaskQuery query) {
+        return Specification.where(completed(query.getCompleted()))
+                .and(titleStartsWith(query.getTitlePrefix()))
+                .and(within("createdAt", query.getCreatedFrom(), query.getCreatedTo()))
+                .and(within("updatedAt", query.getUpdatedFrom(), query.getUpdatedTo()));
+    }
+
+    public static Specification<Task> completed(Boolean completed) {
+        return completed == null ? null : (root, query, cb) -> cb.equal(root.get("completed"), completed);
+    }
+
+    /**
+     * Matches titles starting with the prefix. LIKE wildcards in the prefix are
+     * escaped so the predicate stays a range scan on the title index.
+     *
+     * @param prefix the title prefix, may be null or empty
+     * @return the specification, or null when no prefix is given
+     */
+    public static Specification<Task> titleStartsWith(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("title"), pattern, '\\');
+    }
+
+    /**
+     * Matches tasks whose timestamp lies in [from, to).
+     *
+     * @param property the timestamp property
+     * @param from     the inclusive lower bound, may be null
+     * @param to       the exclusive upper bound, may be null
+     * @return the specification, or null when both bounds are null
+     */
+    public static Specification<Task> within(String property, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<LocalDateTime> path = root.get(property);
+            if (from == null) {
+                return cb.lessThan(path, to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(path, from);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(path, from), cb.lessThan(path, to));
+        };
+    }
+
+    /**
+     * Keyset predicate selecting the rows after a position in a listing sorted
+     * by {@code property} and then by id, in the same direction.
+     *
+     * @param property  the sort property
+     * @param ascending whether the listing is ascending
+     * @param value     the sort value of the last row already returned
+     * @param id        the id of the last row already returned
+     * @return the keyset specification
+     */
+    public static Specification<Task> after(String property, boolean ascending, Comparable<?> value, long id) {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            Predicate idBeyond = beyond(cb, idPath, id, ascending);
+            if ("id".equals(property)) {
+                return idBeyond;
+            }
+            Path<?> path = root.get(property);
+            return cb.or(beyond(cb, path, value, ascending), cb.and(cb.equal(path, value), idBeyond));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate beyond(CriteriaBuilder cb, Expression path, Comparable value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ReplicaRoutingDataSource;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index used outside the prod profile, where H2 has no
+ * equivalent of PostgreSQL's tsvector. Terms are lower-cased words, without
+ * stemming; a title occurrence counts {@value #TITLE_WEIGHT} times as much as a
+ * description occurrence. The index is built from the database on startup and
+ * then kept current by TaskService's write callbacks.
+ */
+@Component
+@Profile("!prod")
+public class InMemoryTaskSearch implements TaskSearch {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final TaskRepository taskRepository;
+
+    /** Term to (task id to term weight). */
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+
+    /** Task id to the terms it is indexed under, for removal. */
+    private final Map<Long, Set<String>> documents = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an InMemoryTaskSearch.
+     *
+     * @param taskRepository the task repository
+     */
+    @Autowired
+    public InMemoryTaskSearch(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Indexes every existing task once the application has started. Tasks are
+     * read from the primary, since the index is only kept up to date from here on.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        ReplicaRoutingDataSource.readFromPrimary(() -> {
+            try (Stream<Task> tasks = taskRepository.streamAll()) {
+                tasks.forEach(this::index);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public List<Task> search(String terms, int offset, int limit) {
+        List<Map<Long, Integer>> matches = tokenize(terms).stream()
+                .distinct()
+                .map(term -> postings.getOrDefault(term, Map.of()))
+                .sorted(Comparator.comparingInt(Map::size))
+                .toList();
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores = new HashMap<>(matches.get(0));
+        for (Map<Long, Integer> posting : matches.subList(1, matches.size())) {
+            scores.keySet().retainAll(posting.keySet());
+            scores.replaceAll((id, score) -> score + posting.getOrDefault(id, 0));
+        }
+        List<Long> ids = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Task> tasks = taskRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public synchronized void index(Task task) {
+        removeEntry(task.getId());
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(task.getTitle()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(task.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(task.getId(), weight));
+        documents.put(task.getId(), weights.keySet());
+    }
+
+    @Override
+    public void reindex(Collection<Long> ids) {
+        Set<Long> missing = new HashSet<>(ids);
+        for (Task task : ReplicaRoutingDataSource.readFromPrimary(() -> taskRepository.findAllById(ids))) {
+            index(task);
+            missing.remove(task.getId());
+        }
+        remove(missing);
+    }
+
+    @Override
+    public synchronized void remove(Collection<Long> ids) {
+        ids.forEach(this::removeEntry);
+    }
+
+    private void removeEntry(Long id) {
+        Set<String> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, posting) -> {
+                posting.remove(id);
+                return posting.isEmpty() ? null : posting;
+            });
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Stream.of(NON_WORD.split(text.toLowerCase(Locale.ROOT)))
+                .filter(term -> !term.isEmpty())
+                .toList();
+    }
+}
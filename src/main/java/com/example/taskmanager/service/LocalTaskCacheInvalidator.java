@@ -0,0 +1,19 @@
+package com.example.taskmanager.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Invalidator for single-instance profiles on the embedded database: there
+ * are no other instances to tell, so nothing is published.
+ */
+@Component
+@Profile("!prod")
+public class LocalTaskCacheInvalidator implements TaskCacheInvalidator {
+
+    @Override
+    public void invalidate(Collection<Long> ids) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.TaskConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Bounded retry with exponential backoff for writes that fail optimistic
+ * version checks. Each attempt must run in its own transaction, so the action
+ * passed in is expected to open and commit one.
+ */
+@Component
+public class OptimisticRetry {
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    /**
+     * Constructs an OptimisticRetry.
+     *
+     * @param meterRegistry    the registry for conflict and retry counters
+     * @param maxAttempts      the total number of attempts, including the first
+     * @param initialBackoffMs the upper bound of the first backoff, in milliseconds
+     * @param maxBackoffMs     the cap on any single backoff, in milliseconds
+     */
+    @Autowired
+    public OptimisticRetry(MeterRegistry meterRegistry,
+            @Value("${task.concurrency.retry.max-attempts:3}") int maxAttempts,
+            @Value("${task.concurrency.retry.initial-backoff-ms:20}") long initialBackoffMs,
+            @Value("${task.concurrency.retry.max-backoff-ms:200}") long maxBackoffMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("task.concurrency.retry.max-attempts must be at least 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.conflicts = meterRegistry.counter("tasks.optimistic.conflicts");
+        this.retries = meterRegistry.counter("tasks.optimistic.retries");
+        this.exhausted = meterRegistry.counter("tasks.optimistic.exhausted");
+    }
+
+    /**
+     * Runs the action, retrying it after a jittered exponential backoff each
+     * time it fails with an optimistic locking conflict.
+     *
+     * @param action the transactional action to run
+     * @param <T>    the result type
+     * @return the result of the first successful attempt
+     * @throws TaskConflictException if every attempt conflicts
+     */
+    public <T> T execute(Supplier<T> action) {
+        long backoffMs = initialBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException ex) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw new TaskConflictException(
+                            "Task was modified concurrently, giving up after " + attempt + " attempts", ex);
+                }
+                retries.increment();
+                pause(backoffMs, ex);
+                backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+            }
+        }
+    }
+
+    private void pause(long backoffMs, OptimisticLockingFailureException cause) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new TaskConflictException("Interrupted while retrying a conflicting task write", cause);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cross-instance cache invalidation over PostgreSQL LISTEN/NOTIFY. Changed ids
+ * are collected after commit and published together once per flush interval,
+ * so a burst of writes to the same tasks costs one notification. Past max-ids
+ * pending ids a single evict-everything message is sent instead.
+ *
+ * <p>Every instance holds one pooled connection that listens on the channel,
+ * and evicts the notified ids from the {@code tasks} cache and from the
+ * Hibernate second-level cache, along with the task query cache, and marks the
+ * stats counters stale, since any write may change the counts. Payloads are
+ * {@code <node id>:<ids>}, so an instance ignores its own messages.
+ * Notifications sent while the listening connection is down are lost, so on
+ * every (re)connect the instance evicts all cached tasks.
+ */
+@Component
+@Profile("prod")
+public class PostgresTaskCacheInvalidator implements TaskCacheInvalidator, SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostgresTaskCacheInvalidator.class);
+
+    /** The channel every instance listens on. */
+    static final String CHANNEL = "task_invalidation";
+
+    static final String NOTIFY_SQL = "select pg_notify(?, ?)";
+
+    /** Payload body meaning any task may have changed. */
+    static final String ALL = "*";
+
+    /** PostgreSQL rejects payloads of 8000 bytes or more; payloads are ASCII. */
+    private static final int MAX_PAYLOAD_LENGTH = 7_900;
+
+    /** How long to wait before reconnecting after the listening connection fails. */
+    private static final long RECONNECT_DELAY_MS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+    private final Cache hibernateCache;
+    private final TaskStatsCounters taskStatsCounters;
+    private final int flushIntervalMs;
+    private final int maxIds;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicBoolean pendingAll = new AtomicBoolean();
+    private final Counter published;
+    private final Counter received;
+    private volatile boolean running;
+    private Thread listener;
+
+    /**
+     * Constructs a PostgresTaskCacheInvalidator.
+     *
+     * @param jdbcTemplate         sends notifications; its data source also provides the listening connection
+     * @param cacheManager         holds the {@code tasks} cache
+     * @param entityManagerFactory provides the Hibernate second-level cache
+     * @param taskStatsCounters    the stats counters, re-read after another instance writes
+     * @param meterRegistry        the registry for published and received notification counts
+     * @param flushInterval        how long changes are collected before being published
+     * @param maxIds               the pending id count above which everything is evicted instead
+     */
+    @Autowired
+    public PostgresTaskCacheInvalidator(JdbcTemplate jdbcTemplate, CacheManager cacheManager,
+            EntityManagerFactory entityManagerFactory, TaskStatsCounters taskStatsCounters,
+            MeterRegistry meterRegistry,
+            @Value("${task.cache.invalidation.flush-interval:100ms}") Duration flushInterval,
+            @Value("${task.cache.invalidation.max-ids:1000}") int maxIds) {
+        if (flushInterval.toMillis() < 1 || maxIds < 1) {
+            throw new IllegalArgumentException(
+                    "task.cache.invalidation.flush-interval must be at least 1ms and max-ids at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheManager = cacheManager;
+        this.hibernateCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.taskStatsCounters = taskStatsCounters;
+        this.flushIntervalMs = (int) Math.min(flushInterval.toMillis(), Integer.MAX_VALUE);
+        this.maxIds = maxIds;
+        this.published = meterRegistry.counter("tasks.cache.invalidation.published");
+        this.received = meterRegistry.counter("tasks.cache.invalidation.received");
+    }
+
+    @Override
+    public void invalidate(Collection<Long> ids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(ids);
+            return;
+        }
+        List<Long> changed = List.copyOf(ids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(changed);
+            }
+        });
+    }
+
+    private void enqueue(Collection<Long> ids) {
+        if (!pendingAll.get()) {
+            pendingIds.addAll(ids);
+            if (pendingIds.size() > maxIds) {
+                pendingAll.set(true);
+                pendingIds.clear();
+            }
+        }
+        pending.set(true);
+    }
+
+    /**
+     * Publishes the changes collected since the last flush, in as few
+     * notifications as the payload limit allows. If publishing fails, the
+     * next flush evicts everything instead.
+     */
+    void flush() {
+        if (!pending.getAndSet(false)) {
+            return;
+        }
+        boolean all = pendingAll.getAndSet(false);
+        List<Long> ids = new ArrayList<>();
+        Iterator<Long> it = pendingIds.iterator();
+        while (it.hasNext()) {
+            ids.add(it.next());
+            it.remove();
+        }
+        try {
+            if (all) {
+                send(ALL);
+                return;
+            }
+            int maxBodyLength = MAX_PAYLOAD_LENGTH - nodeId.length() - 1;
+            StringBuilder body = new StringBuilder();
+            for (Long id : ids) {
+                String next = id.toString();
+                if (body.length() + next.length() + 1 > maxBodyLength) {
+                    send(body.toString());
+                    body.setLength(0);
+                }
+                if (body.length() > 0) {
+                    body.append(',');
+                }
+                body.append(next);
+            }
+            send(body.toString());
+        } catch (DataAccessException ex) {
+            pendingAll.set(true);
+            pending.set(true);
+            throw ex;
+        }
+    }
+
+    private void send(String body) {
+        jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, nodeId + ':' + body);
+        published.increment();
+    }
+
+    /**
+     * Evicts the tasks named in a notification, unless this instance sent it.
+     * An empty id list still evicts the task query cache and marks the stats
+     * counters stale.
+     */
+    void handle(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        received.increment();
+        String body = payload.substring(separator + 1);
+        if (ALL.equals(body)) {
+            evictAll();
+            return;
+        }
+        taskStatsCounters.markStale();
+        List<Long> ids = body.isEmpty()
+                ? List.of()
+                : Arrays.stream(body.split(",")).map(Long::valueOf).toList();
+        Optional.ofNullable(cacheManager.getCache(TaskService.TASK_CACHE))
+                .ifPresent(cache -> ids.forEach(cache::evict));
+        ids.forEach(id -> hibernateCache.evictEntityData(Task.class, id));
+        hibernateCache.evictQueryRegion(Task.QUERY_CACHE_REGION);
+    }
+
+    private void evictAll() {
+        Optional.ofNullable(cacheManager.getCache(TaskService.TASK_CACHE))
+                .ifPresent(org.springframework.cache.Cache::clear);
+        hibernateCache.evictEntityData(Task.class);
+        hibernateCache.evictQueryRegion(Task.QUERY_CACHE_REGION);
+        taskStatsCounters.markStale();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "task-cache-invalidation");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    /**
+     * Stops listening and publishes whatever is still pending.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            listener.join(flushIntervalMs + RECONNECT_DELAY_MS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            flush();
+        } catch (DataAccessException ex) {
+            LOG.warn("Failed to publish pending task cache invalidations on shutdown", ex);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs in a phase below the write-behind queue, so it stops after the
+     * queue's final drain and still publishes that drain's changes.
+     *
+     * @return the lifecycle phase
+     */
+    @Override
+    public int getPhase() {
+        return -1;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = Objects.requireNonNull(jdbcTemplate.getDataSource()).getConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                evictAll();
+                PGConnection notifications = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] batch = notifications.getNotifications(flushIntervalMs);
+                    if (batch != null) {
+                        for (PGNotification notification : batch) {
+                            handle(notification.getParameter());
+                        }
+                    }
+                    flush();
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                LOG.warn("Task cache invalidation listener failed, reconnecting in {} ms", RECONNECT_DELAY_MS, ex);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * PostgreSQL full-text search on the generated {@code search_vector} column and
+ * its GIN index (see {@code db/task-search-postgresql.sql}). The column is kept
+ * up to date by the database, so writes need no callbacks here.
+ */
+@Component
+@Profile("prod")
+public class PostgresTaskSearch implements TaskSearch {
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Constructs a PostgresTaskSearch.
+     *
+     * @param taskRepository the task repository
+     */
+    @Autowired
+    public PostgresTaskSearch(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> search(String terms, int offset, int limit) {
+        return taskRepository.searchFullText(terms, offset, limit);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanager.service;
+
+import java.util.Collection;
+
+/**
+ * Tells other application instances that tasks changed, so they drop their
+ * cached copies. The writing instance evicts its own caches; implementations
+ * only have to reach the others.
+ */
+public interface TaskCacheInvalidator {
+
+    /**
+     * Publishes a change to the given tasks. Inside a transaction the change
+     * is published after commit; a rolled-back write publishes nothing.
+     *
+     * @param ids the ids of the updated or deleted tasks; empty when only
+     *            listings changed, such as after a create
+     */
+    void invalidate(Collection<Long> ids);
+}
@@ -0,0 +1,139 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.TaskValidationException;
+import com.example.taskmanager.model.Task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursor tokens used for keyset pagination.
+ * The token wraps the id of the last task returned, and for sorted listings
+ * its sort value too, so that clients never depend on its format. Ranked
+ * search results have no stable key to seek on, so their cursor wraps an offset.
+ */
+public final class TaskCursor {
+
+    private static final String PREFIX = "id:";
+    private static final String KEYSET_TAG = "k";
+    private static final String OFFSET_PREFIX = "o:";
+
+    /**
+     * Position after the last task of a sorted page.
+     *
+     * @param value the sort value of the last task
+     * @param id    the id of the last task, the tie-breaker
+     */
+    public record Position(Comparable<?> value, long id) {
+    }
+
+    private TaskCursor() {
+    }
+
+    public static String encode(Long lastId) {
+        return toToken(PREFIX + lastId);
+    }
+
+    /**
+     * Encodes the position of the last task of a sorted page.
+     *
+     * @param field    the sort field
+     * @param lastTask the last task of the page
+     * @return the cursor token
+     */
+    public static String encode(TaskSortField field, Task lastTask) {
+        return toToken(KEYSET_TAG + ":" + field.getProperty() + ":" + lastTask.getId() + ":"
+                + field.valueOf(lastTask));
+    }
+
+    /**
+     * Decodes a cursor token back into the id it points after.
+     *
+     * @param cursor the cursor token, may be null or blank for the first page
+     * @return the id to continue after, or 0 for the first page
+     * @throws TaskValidationException if the token is malformed
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String raw = fromToken(cursor);
+            if (!raw.startsWith(PREFIX)) {
+                throw new TaskValidationException("Invalid cursor");
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new TaskValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Decodes a sorted-listing cursor token.
+     *
+     * @param cursor the cursor token, may be null or blank for the first page
+     * @param field  the sort field of the current request
+     * @return the position to continue after, or null for the first page
+     * @throws TaskValidationException if the token is malformed or was issued for another sort
+     */
+    public static Position decode(String cursor, TaskSortField field) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = fromToken(cursor).split(":", 4);
+            if (parts.length != 4 || !KEYSET_TAG.equals(parts[0])
+                    || !field.getProperty().equals(parts[1])) {
+                throw new TaskValidationException("Invalid cursor");
+            }
+            return new Position(field.parse(parts[3]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new TaskValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes the offset of the next page of ranked search results.
+     *
+     * @param offset the number of results already returned
+     * @return the cursor token
+     */
+    public static String encodeOffset(int offset) {
+        return toToken(OFFSET_PREFIX + offset);
+    }
+
+    /**
+     * Decodes a search cursor token back into an offset.
+     *
+     * @param cursor the cursor token, may be null or blank for the first page
+     * @return the offset to continue from, or 0 for the first page
+     * @throws TaskValidationException if the token is malformed
+     */
+    public static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String raw = fromToken(cursor);
+            if (!raw.startsWith(OFFSET_PREFIX)) {
+                throw new TaskValidationException("Invalid cursor");
+            }
+            int offset = Integer.parseInt(raw.substring(OFFSET_PREFIX.length()));
+            if (offset < 0) {
+                throw new TaskValidationException("Invalid cursor");
+            }
+            return offset;
+        } catch (IllegalArgumentException ex) {
+            throw new TaskValidationException("Invalid cursor");
+        }
+    }
+
+    private static String toToken(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String fromToken(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+}
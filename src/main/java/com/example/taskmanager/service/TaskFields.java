@@ -0,0 +1,110 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.exception.TaskValidationException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskSummary;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Parses the {@code fields} query parameter of task listings and reduces tasks
+ * to the requested fields. The id is always included.
+ */
+public final class TaskFields {
+
+    private static final Map<String, Function<Task, Object>> TASK_FIELDS = new LinkedHashMap<>();
+    private static final Map<String, Function<TaskSummary, Object>> SUMMARY_FIELDS = new LinkedHashMap<>();
+
+    static {
+        TASK_FIELDS.put("id", Task::getId);
+        TASK_FIELDS.put("title", Task::getTitle);
+        TASK_FIELDS.put("description", Task::getDescription);
+        TASK_FIELDS.put("completed", Task::isCompleted);
+        TASK_FIELDS.put("version", Task::getVersion);
+        TASK_FIELDS.put("createdAt", Task::getCreatedAt);
+        TASK_FIELDS.put("updatedAt", Task::getUpdatedAt);
+
+        SUMMARY_FIELDS.put("id", TaskSummary::getId);
+        SUMMARY_FIELDS.put("title", TaskSummary::getTitle);
+        SUMMARY_FIELDS.put("completed", TaskSummary::isCompleted);
+        SUMMARY_FIELDS.put("version", TaskSummary::getVersion);
+    }
+
+    private TaskFields() {
+    }
+
+    /**
+     * Parses a comma-separated field list.
+     *
+     * @param fields the parameter value, e.g. "title,completed"; may be null or blank
+     * @return the requested fields in output order, including id, or null for all fields
+     * @throws TaskValidationException if a field is unknown
+     */
+    public static Set<String> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add("id");
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!TASK_FIELDS.containsKey(name)) {
+                throw new TaskValidationException("Unknown field '" + name + "', expected one of "
+                        + String.join(", ", TASK_FIELDS.keySet()));
+            }
+            requested.add(name);
+        }
+        Set<String> ordered = new LinkedHashSet<>(TASK_FIELDS.keySet());
+        ordered.retainAll(requested);
+        return ordered;
+    }
+
+    /**
+     * Returns whether every requested field is available from {@link TaskSummary}.
+     *
+     * @param fields the parsed fields
+     * @return true if the summary projection is enough to answer the request
+     */
+    public static boolean coveredBySummary(Set<String> fields) {
+        return SUMMARY_FIELDS.keySet().containsAll(fields);
+    }
+
+    /**
+     * Reduces a task to the requested fields.
+     *
+     * @param task   the task
+     * @param fields the parsed fields
+     * @return the sparse task
+     */
+    public static SparseTask select(Task task, Set<String> fields) {
+        return new SparseTask(task.getId(), task.getVersion(), pick(TASK_FIELDS, task, fields));
+    }
+
+    /**
+     * Reduces a task summary to the requested fields.
+     *
+     * @param summary the task summary
+     * @param fields  the parsed fields, all covered by the summary
+     * @return the sparse task
+     */
+    public static SparseTask select(TaskSummary summary, Set<String> fields) {
+        return new SparseTask(summary.getId(), summary.getVersion(), pick(SUMMARY_FIELDS, summary, fields));
+    }
+
+    private static <T> Map<String, Object> pick(Map<String, Function<T, Object>> getters, T source,
+            Set<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            values.put(field, getters.get(field).apply(source));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out task ids ahead of the insert, from the same pooled generator the
+ * Task mapping uses. Ids therefore never collide with tasks saved through JPA,
+ * and most calls are served from the current block without touching the
+ * database.
+ */
+@Component
+public class TaskIdAllocator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final IdentifierGenerator generator;
+
+    /**
+     * Constructs a TaskIdAllocator.
+     *
+     * @param entityManagerFactory the entity manager factory owning the Task id generator
+     */
+    @Autowired
+    public TaskIdAllocator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.generator = (IdentifierGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(Task.class)
+                .getGenerator();
+    }
+
+    /**
+     * Allocates the next task id.
+     *
+     * @return an id no other task has or will be given
+     */
+    public long next() {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return ((Number) generator.generate((SharedSessionContractImplementor) session, null)).longValue();
+        }
+    }
+}
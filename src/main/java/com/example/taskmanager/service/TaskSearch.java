@@ -0,0 +1,50 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Full-text search over task titles and descriptions.
+ * Implementations that keep their own index are told about every write through
+ * the index and remove callbacks; database-backed ones can ignore them.
+ */
+public interface TaskSearch {
+
+    /**
+     * Finds tasks matching every term of the query, best match first.
+     *
+     * @param terms  the search terms
+     * @param offset the number of results to skip
+     * @param limit  the maximum number of results to return
+     * @return the matching tasks in rank order, ties broken by id
+     */
+    List<Task> search(String terms, int offset, int limit);
+
+    /**
+     * Adds a task to the index, or replaces its entry after an update.
+     *
+     * @param task the created or updated task
+     */
+    default void index(Task task) {
+    }
+
+    /**
+     * Re-reads the given tasks and refreshes their index entries. The tasks
+     * have just been written, so they must be read from the primary, not a
+     * read replica that may not have the write yet.
+     *
+     * @param ids the ids of the created or updated tasks
+     */
+    default void reindex(Collection<Long> ids) {
+    }
+
+    /**
+     * Drops tasks from the index.
+     *
+     * @param ids the ids of the deleted tasks
+     */
+    default void remove(Collection<Long> ids) {
+    }
+}
@@ -1,65 +1,598 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.config.ReplicaRoutingDataSource;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.dto.TaskBatchRequest;
+import com.example.taskmanager.dto.TaskBatchResult;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.exception.TaskConflictException;
+import com.example.taskmanager.exception.TaskValidationException;
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskSummary;
 import com.example.taskmanager.repository.TaskRepository;
+import com.example.taskmanager.repository.TaskSpecifications;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing tasks.
+ *
+ * <p>Read methods run in read-only transactions. For those, Spring's Hibernate
+ * dialect sets FlushMode.MANUAL and loads entities read-only, so no dirty-checking
+ * snapshots are kept and nothing is flushed at commit, and it marks the JDBC
+ * connection read-only.
+ *
+ * <p>With a read replica configured, read-only transactions go to the replica,
+ * which may lag. What a read loads there is not put into the {@code tasks}
+ * cache, the second-level cache or the query cache, where a stale copy would be
+ * served to every client, including one that has just written a newer one.
  */
 @Service
+@Timed(value = "tasks.service", histogram = true)
 public class TaskService {
 
+    /** Name of the cache holding tasks by id. */
+    public static final String TASK_CACHE = "tasks";
+
+    /** Upper bound on the page size a client may request. */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /** Upper bound on the number of items in one bulk request. */
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    /** How deep a client may page into ranked search results. */
+    public static final int MAX_SEARCH_RESULTS = 1_000;
+
+    private static final String INSERT_TASK = "insert into task"
+            + " (id, title, description, completed, version, created_at, updated_at)"
+            + " values (?, ?, ?, ?, ?, ?, ?)";
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+    private final OptimisticRetry optimisticRetry;
+    private final TaskSearch taskSearch;
+    private final TaskStatsCounters taskStatsCounters;
+    private final TaskCacheInvalidator taskCacheInvalidator;
+    private final boolean replicaInstalled;
 
+    /**
+     * Constructs a TaskService.
+     *
+     * @param taskRepository        the task repository
+     * @param entityManager         the shared entity manager
+     * @param transactionOperations runs each retry attempt in its own transaction
+     * @param optimisticRetry       the retry policy for optimistic locking conflicts
+     * @param taskSearch            the full-text search index
+     * @param taskStatsCounters     the task counters behind the stats endpoint
+     * @param taskCacheInvalidator  tells other instances which cached tasks are stale
+     */
     @Autowired
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, EntityManager entityManager,
+            TransactionOperations transactionOperations, OptimisticRetry optimisticRetry,
+            TaskSearch taskSearch, TaskStatsCounters taskStatsCounters,
+            TaskCacheInvalidator taskCacheInvalidator) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.transactionOperations = transactionOperations;
+        this.optimisticRetry = optimisticRetry;
+        this.taskSearch = taskSearch;
+        this.taskStatsCounters = taskStatsCounters;
+        this.taskCacheInvalidator = taskCacheInvalidator;
+        this.replicaInstalled = ReplicaRoutingDataSource.isInstalled(entityManager.getEntityManagerFactory());
     }
 
+    /**
+     * Retrieves every task.
+     *
+     * @return all tasks
+     */
+    @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
+        bypassCacheStoreOnReplica();
         return taskRepository.findAll();
     }
 
+    /**
+     * Retrieves one page of tasks ordered by id, continuing after the given cursor.
+     * Reads one extra row to detect whether a further page exists.
+     *
+     * @param cursor the opaque cursor from a previous page, or null for the first page
+     * @param size   the number of tasks per page
+     * @return the page of tasks with the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Task> getTaskPage(String cursor, int size) {
+        bypassCacheStoreOnReplica();
+        return idPage(cursor, size, taskRepository::findByIdGreaterThanOrderByIdAsc, Task::getId);
+    }
+
+    /**
+     * Same as {@link #findTasks(TaskQuery, String, int)} but returns only the
+     * requested fields of each task. When the listing is unfiltered and every
+     * field is part of {@link TaskSummary}, only those columns are selected.
+     *
+     * @param taskQuery the filter and sort criteria
+     * @param cursor    the opaque cursor from a previous page, or null for the first page
+     * @param size      the number of tasks per page
+     * @param fields    the fields to return, as parsed by {@link TaskFields#parse}
+     * @return the page of sparse tasks with the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<SparseTask> findTasks(TaskQuery taskQuery, String cursor, int size, Set<String> fields) {
+        if (taskQuery.isUnfiltered() && TaskFields.coveredBySummary(fields)) {
+            bypassCacheStoreOnReplica();
+            CursorPage<TaskSummary> page = idPage(cursor, size,
+                    taskRepository::findSummariesByIdGreaterThanOrderByIdAsc, TaskSummary::getId);
+            return new CursorPage<>(page.getItems().stream()
+                    .map(summary -> TaskFields.select(summary, fields))
+                    .toList(), page.getNextCursor());
+        }
+        CursorPage<Task> page = findTasks(taskQuery, cursor, size);
+        return new CursorPage<>(page.getItems().stream()
+                .map(task -> TaskFields.select(task, fields))
+                .toList(), page.getNextCursor());
+    }
+
+    private <T> CursorPage<T> idPage(String cursor, int size, BiFunction<Long, Limit, List<T>> query,
+            Function<T, Long> idOf) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TaskValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        long afterId = TaskCursor.decode(cursor);
+        List<T> rows = query.apply(afterId, Limit.of(size + 1));
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(items, TaskCursor.encode(idOf.apply(items.get(size - 1))));
+    }
+
+    /**
+     * Retrieves one page of tasks matching the query's filters, sorted by the
+     * requested field and then by id. Pages are read with a keyset predicate on
+     * (sort value, id) rather than an offset, so later pages cost the same as the
+     * first. An unfiltered query in id order is served by {@link #getTaskPage}.
+     *
+     * @param taskQuery the filter and sort criteria
+     * @param cursor    the opaque cursor from a previous page, or null for the first page
+     * @param size      the number of tasks per page
+     * @return the page of tasks with the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Task> findTasks(TaskQuery taskQuery, String cursor, int size) {
+        if (taskQuery.isUnfiltered()) {
+            return getTaskPage(cursor, size);
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TaskValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        TaskSortField field = TaskSortField.fromProperty(taskQuery.getSort());
+        Sort.Direction direction = Sort.Direction.fromOptionalString(taskQuery.getDirection())
+                .orElseThrow(() -> new TaskValidationException("Direction must be 'asc' or 'desc'"));
+
+        bypassCacheStoreOnReplica();
+        Specification<Task> spec = TaskSpecifications.matching(taskQuery);
+        TaskCursor.Position position = TaskCursor.decode(cursor, field);
+        if (position != null) {
+            spec = spec.and(TaskSpecifications.after(
+                    field.getProperty(), direction.isAscending(), position.value(), position.id()));
+        }
+        Sort sort = field == TaskSortField.ID
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, field.getProperty(), "id");
+
+        List<Task> rows = taskRepository.findBy(spec, q -> q.sortBy(sort).limit(size + 1).all());
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Task> items = rows.subList(0, size);
+        return new CursorPage<>(items, TaskCursor.encode(field, items.get(size - 1)));
+    }
+
+    /**
+     * Searches task titles and descriptions, best match first. Ranked results have
+     * no stable key to seek on, so pages are offset-based and capped at
+     * {@link #MAX_SEARCH_RESULTS}; past that a client should refine the query.
+     *
+     * @param terms  the search terms
+     * @param cursor the opaque cursor from a previous page, or null for the first page
+     * @param size   the number of tasks per page
+     * @return the page of matching tasks with the cursor of the next page
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<Task> searchTasks(String terms, String cursor, int size) {
+        if (terms == null || terms.isBlank()) {
+            throw new TaskValidationException("Search query is required");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new TaskValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        int offset = TaskCursor.decodeOffset(cursor);
+        int limit = Math.min(size, MAX_SEARCH_RESULTS - offset);
+        if (limit <= 0) {
+            return new CursorPage<>(List.of(), null);
+        }
+        bypassCacheStoreOnReplica();
+        List<Task> rows = taskSearch.search(terms, offset, limit + 1);
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Task> items = rows.subList(0, limit);
+        int nextOffset = offset + limit;
+        return new CursorPage<>(items, nextOffset < MAX_SEARCH_RESULTS ? TaskCursor.encodeOffset(nextOffset) : null);
+    }
+
+    /**
+     * Returns the total, completed and open task counts.
+     *
+     * @return the task counts
+     */
+    public TaskStats getTaskStats() {
+        return taskStatsCounters.getStats();
+    }
+
+    /**
+     * Streams every task to the given sink in id order. Each task is detached
+     * once the sink has consumed it, so the persistence context stays empty and
+     * memory use does not grow with the number of rows.
+     *
+     * @param sink receives each task in turn
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(Consumer<Task> sink) {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            tasks.forEach(task -> {
+                sink.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    @Cacheable(cacheNames = TASK_CACHE, key = "#id", unless = "#root.target.readsFromReplica()")
+    @Transactional(readOnly = true)
     public Task getTaskById(Long id) {
+        bypassCacheStoreOnReplica();
         return taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", id));
     }
 
+    /**
+     * Tells whether read-only transactions on the current thread are served by
+     * the read replica, so what they load must not be cached.
+     *
+     * @return true if a replica is configured and the thread is not pinned to the primary
+     */
+    public boolean readsFromReplica() {
+        return replicaInstalled && !ReplicaRoutingDataSource.isPinned();
+    }
+
+    /**
+     * Keeps the current transaction from putting the tasks it loads into the
+     * second-level cache or the query cache when it is served by the replica.
+     * Entries already cached are still read.
+     */
+    private void bypassCacheStoreOnReplica() {
+        if (readsFromReplica()) {
+            entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        }
+    }
+
+    @CachePut(cacheNames = TASK_CACHE, key = "#result.id")
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        taskSearch.index(saved);
+        taskStatsCounters.record(1, saved.isCompleted() ? 1 : 0);
+        taskCacheInvalidator.invalidate(List.of());
+        return saved;
+    }
+
+    /**
+     * Inserts tasks whose id, version and timestamps were assigned in advance,
+     * as one JDBC batch in one transaction. Used by the write-behind queue,
+     * which hands out ids before the row exists; going through JPA would
+     * generate a new id instead. Hibernate does not see these inserts, so the
+     * task query cache is evicted, and the tasks indexed, once they commit.
+     *
+     * @param tasks the tasks to insert, each with id and timestamps set
+     */
+    @Transactional
+    public void insertAll(List<Task> tasks) {
+        Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_TASK)) {
+                for (Task task : tasks) {
+                    insert.setLong(1, task.getId());
+                    insert.setString(2, task.getTitle());
+                    insert.setString(3, task.getDescription());
+                    insert.setBoolean(4, task.isCompleted());
+                    insert.setLong(5, task.getVersion());
+                    insert.setTimestamp(6, Timestamp.valueOf(task.getCreatedAt()));
+                    insert.setTimestamp(7, Timestamp.valueOf(task.getUpdatedAt()));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+        afterCommit(() -> {
+            session.getSessionFactory().getCache().evictQueryRegion(Task.QUERY_CACHE_REGION);
+            tasks.forEach(taskSearch::index);
+        });
+        taskStatsCounters.record(tasks.size(), tasks.stream().filter(Task::isCompleted).count());
+        taskCacheInvalidator.invalidate(List.of());
     }
 
     /**
-     * Updates an existing task.
+     * Updates an existing task. The task is loaded, usually from the
+     * second-level cache, and changed in place; Hibernate writes it on flush
+     * with a version check and evicts only this task from the cache. With the
+     * task cached, the write is the one version-checked UPDATE. When an
+     * expected version is given the update only applies if the task is still
+     * at that version; otherwise a concurrent change is retried.
      *
      * @param id the task ID
      * @param taskDetails the updated task details
-     * @return the updated task
+     * @param expectedVersion the version the client last saw, or null to update unconditionally
+     * @return the updated task with its new version
+     * @throws PreconditionFailedException if the task is not at the expected version
      */
-    public Task updateTask(Long id, Task taskDetails) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", id));
+    @CacheEvict(cacheNames = TASK_CACHE, key = "#id")
+    public Task updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        return writeTask(id, expectedVersion, task -> {
+            boolean wasCompleted = task.isCompleted();
+            task.setTitle(taskDetails.getTitle());
+            task.setDescription(taskDetails.getDescription());
+            task.setCompleted(taskDetails.isCompleted());
+            taskRepository.flush();
+            afterCommit(() -> taskSearch.index(task));
+            taskStatsCounters.record(0, completionChange(wasCompleted, task.isCompleted()));
+            return task;
+        });
+    }
 
-        task.setTitle(taskDetails.getTitle());
-        task.setDescription(taskDetails.getDescription());
-        task.setCompleted(taskDetails.isCompleted());
+    /**
+     * Deletes a task by ID. Like {@link #updateTask}, the task is loaded and
+     * removed with a version-checked DELETE.
+     *
+     * @param id the task ID
+     * @param expectedVersion the version the client last saw, or null to delete unconditionally
+     * @throws PreconditionFailedException if the task is not at the expected version
+     */
+    @CacheEvict(cacheNames = TASK_CACHE, key = "#id")
+    public void deleteTask(Long id, Long expectedVersion) {
+        writeTask(id, expectedVersion, task -> {
+            taskRepository.delete(task);
+            taskRepository.flush();
+            afterCommit(() -> taskSearch.remove(List.of(id)));
+            taskStatsCounters.record(-1, task.isCompleted() ? -1 : 0);
+            return task;
+        });
+    }
 
-        return taskRepository.save(task);
+    /**
+     * Loads a task and applies a write to it in one transaction, retried on
+     * optimistic conflicts. A cached copy may lag a write from another
+     * instance, so a version mismatch is confirmed against the database before
+     * it is reported. A conflict on a conditional write means the task moved
+     * past the expected version, which is reported rather than retried.
+     */
+    private Task writeTask(Long id, Long expectedVersion, Function<Task, Task> write) {
+        Task written = optimisticRetry.execute(() -> transactionOperations.execute(status -> {
+            Task task = taskRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", id));
+            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                refresh(task);
+                if (!expectedVersion.equals(task.getVersion())) {
+                    throw new PreconditionFailedException("Task", id);
+                }
+            }
+            try {
+                return write.apply(task);
+            } catch (OptimisticLockingFailureException ex) {
+                if (expectedVersion != null) {
+                    throw new PreconditionFailedException("Task", id);
+                }
+                throw ex;
+            }
+        }));
+        taskCacheInvalidator.invalidate(List.of(id));
+        return written;
+    }
+
+    private void refresh(Task task) {
+        try {
+            entityManager.refresh(task);
+        } catch (EntityNotFoundException ex) {
+            throw new ResourceNotFoundException("Task", task.getId());
+        }
     }
 
     /**
-     * Deletes a task by ID.
+     * Runs the action once the current transaction commits, or immediately when
+     * there is none, so a rolled-back write never reaches the search index.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static int completionChange(boolean before, boolean after) {
+        if (before == after) {
+            return 0;
+        }
+        return after ? 1 : -1;
+    }
+
+    /**
+     * Applies a bulk request in a single transaction. The whole request is
+     * validated up front; existing tasks for updates and deletes are loaded
+     * with one query, and the resulting statements are sent to the database
+     * as JDBC batches on flush. Updates and deletes are version-checked on
+     * flush, and if another writer got there first the whole transaction is
+     * retried. Each written task is evicted from the second-level cache on its
+     * own, rather than the whole region.
      *
-     * @param id the task ID
+     * @param request the tasks to create, update and delete
+     * @return one result per item, creates first, then updates, then deletes
+     * @throws TaskValidationException if any item in the request is invalid
+     * @throws TaskConflictException if the batch keeps conflicting after all retries
      */
-    public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", id));
-        taskRepository.delete(task);
+    @CacheEvict(cacheNames = TASK_CACHE, allEntries = true,
+            condition = "!#request.update.isEmpty() || !#request.delete.isEmpty()")
+    public List<TaskBatchResult> processBatch(TaskBatchRequest request) {
+        validateBatch(request);
+        List<TaskBatchResult> results =
+                optimisticRetry.execute(() -> transactionOperations.execute(status -> applyBatch(request)));
+        publishChanges(results);
+        return results;
+    }
+
+    private void publishChanges(List<TaskBatchResult> results) {
+        List<Long> written = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        List<Long> changed = new ArrayList<>();
+        for (TaskBatchResult result : results) {
+            if (!"success".equals(result.getStatus())) {
+                continue;
+            }
+            if ("delete".equals(result.getOperation())) {
+                deleted.add(result.getId());
+            } else {
+                written.add(result.getId());
+            }
+            if (!"create".equals(result.getOperation())) {
+                changed.add(result.getId());
+            }
+        }
+        if (!written.isEmpty()) {
+            taskSearch.reindex(written);
+        }
+        if (!deleted.isEmpty()) {
+            taskSearch.remove(deleted);
+        }
+        taskCacheInvalidator.invalidate(changed);
+    }
+
+    private List<TaskBatchResult> applyBatch(TaskBatchRequest request) {
+        Set<Long> targetIds = new HashSet<>(request.getDelete());
+        request.getUpdate().forEach(task -> targetIds.add(task.getId()));
+        Map<Long, Task> existing = taskRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskBatchResult> results = new ArrayList<>(request.size());
+        long totalDelta = 0;
+        long completedDelta = 0;
+        request.getCreate().forEach(task -> {
+            task.setId(null);
+            task.setVersion(null);
+        });
+        for (Task created : taskRepository.saveAll(request.getCreate())) {
+            results.add(TaskBatchResult.success("create", created.getId()));
+            totalDelta++;
+            completedDelta += created.isCompleted() ? 1 : 0;
+        }
+
+        for (Task details : request.getUpdate()) {
+            Task task = existing.get(details.getId());
+            if (task == null) {
+                results.add(TaskBatchResult.notFound("update", details.getId()));
+                continue;
+            }
+            completedDelta += completionChange(task.isCompleted(), details.isCompleted());
+            task.setTitle(details.getTitle());
+            task.setDescription(details.getDescription());
+            task.setCompleted(details.isCompleted());
+            results.add(TaskBatchResult.success("update", task.getId()));
+        }
+
+        List<Task> deletable = new ArrayList<>();
+        for (Long id : request.getDelete()) {
+            Task task = existing.get(id);
+            if (task != null) {
+                deletable.add(task);
+                results.add(TaskBatchResult.success("delete", id));
+                totalDelta--;
+                completedDelta -= task.isCompleted() ? 1 : 0;
+            } else {
+                results.add(TaskBatchResult.notFound("delete", id));
+            }
+        }
+        if (!deletable.isEmpty()) {
+            taskRepository.deleteAll(deletable);
+        }
+        taskStatsCounters.record(totalDelta, completedDelta);
+        return results;
+    }
+
+    private void validateBatch(TaskBatchRequest request) {
+        List<String> errors = new ArrayList<>();
+        if (request.size() == 0) {
+            errors.add("Batch must contain at least one operation");
+        }
+        if (request.size() > MAX_BATCH_SIZE) {
+            errors.add("Batch must not contain more than " + MAX_BATCH_SIZE + " operations");
+        }
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < request.getUpdate().size(); i++) {
+            Long id = request.getUpdate().get(i).getId();
+            if (id == null) {
+                errors.add("update[" + i + "].id: Id is required");
+            } else if (!seen.add(id)) {
+                errors.add("update[" + i + "].id: Duplicate id " + id);
+            }
+        }
+        for (int i = 0; i < request.getDelete().size(); i++) {
+            Long id = request.getDelete().get(i);
+            if (id == null) {
+                errors.add("delete[" + i + "]: Id is required");
+            } else if (!seen.add(id)) {
+                errors.add("delete[" + i + "]: Duplicate id " + id);
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new TaskValidationException(errors);
+        }
     }
 }
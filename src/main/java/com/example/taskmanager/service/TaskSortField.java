@@ -0,0 +1,56 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.TaskValidationException;
+import com.example.taskmanager.model.Task;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Task properties a listing can be sorted by, with the conversions needed to
+ * carry a sort value inside a keyset cursor.
+ */
+public enum TaskSortField {
+    ID("id", Task::getId, Long::valueOf),
+    TITLE("title", Task::getTitle, value -> value),
+    CREATED_AT("createdAt", Task::getCreatedAt, LocalDateTime::parse),
+    UPDATED_AT("updatedAt", Task::getUpdatedAt, LocalDateTime::parse);
+
+    private final String property;
+    private final Function<Task, Comparable<?>> getter;
+    private final Function<String, Comparable<?>> parser;
+
+    TaskSortField(String property, Function<Task, Comparable<?>> getter, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.getter = getter;
+        this.parser = parser;
+    }
+
+    /**
+     * Resolves a sort query parameter.
+     *
+     * @param property the entity property name, e.g. "createdAt"
+     * @return the matching sort field
+     * @throws TaskValidationException if the property is not sortable
+     */
+    public static TaskSortField fromProperty(String property) {
+        for (TaskSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new TaskValidationException("Cannot sort by '" + property + "'");
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Comparable<?> valueOf(Task task) {
+        return getter.apply(task);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ReplicaRoutingDataSource;
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process task counters kept up to date by TaskService, so stats reads cost
+ * O(1) instead of an aggregate over the whole table. Deltas are applied when
+ * the writing transaction commits, so rolled-back writes never count.
+ *
+ * <p>Writes from other application instances are not seen directly. The
+ * counters are re-read from the database with one aggregate query once they
+ * are older than the resync interval, or on the next read after another
+ * instance reports a write. A resync for a reported write waits until the
+ * counters are at least the minimum resync interval old, so under a steady
+ * stream of remote writes the aggregate runs at most once per that interval.
+ * When disabled, every read runs the aggregate query.
+ */
+@Component
+public class TaskStatsCounters {
+
+    private final TaskRepository taskRepository;
+    private final boolean enabled;
+    private final long resyncIntervalNanos;
+    private final long minResyncIntervalNanos;
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private volatile long syncedAt;
+    private volatile boolean synced;
+    private volatile boolean initialized;
+
+    /**
+     * Constructs a TaskStatsCounters.
+     *
+     * @param taskRepository    the task repository, for the aggregate query
+     * @param enabled           whether to maintain counters at all
+     * @param resyncInterval    how long counters are trusted before being re-read
+     * @param minResyncInterval how long counters are kept after a resync even if another instance writes
+     */
+    @Autowired
+    public TaskStatsCounters(TaskRepository taskRepository,
+            @Value("${task.stats.counters.enabled:true}") boolean enabled,
+            @Value("${task.stats.counters.resync-interval:5m}") Duration resyncInterval,
+            @Value("${task.stats.counters.min-resync-interval:1s}") Duration minResyncInterval) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+        this.resyncIntervalNanos = resyncInterval.toNanos();
+        this.minResyncIntervalNanos = minResyncInterval.toNanos();
+    }
+
+    /**
+     * Returns the current task counts.
+     *
+     * @return the counts, from the counters if enabled and fresh, otherwise from the database
+     */
+    public TaskStats getStats() {
+        if (!enabled) {
+            return taskRepository.countStats();
+        }
+        if (isResyncDue()) {
+            resyncIfDue();
+        }
+        return new TaskStats(total.get(), completed.get());
+    }
+
+    private boolean isResyncDue() {
+        if (!initialized) {
+            return true;
+        }
+        long age = System.nanoTime() - syncedAt;
+        return age > resyncIntervalNanos || (!synced && age >= minResyncIntervalNanos);
+    }
+
+    /** Checks again under the lock, so readers that queued behind a resync do not repeat it. */
+    private synchronized void resyncIfDue() {
+        if (isResyncDue()) {
+            resync();
+        }
+    }
+
+    /**
+     * Records a change in the counts. Inside a transaction the change is applied
+     * after commit; otherwise it is applied immediately.
+     *
+     * @param totalDelta     the change in the number of tasks
+     * @param completedDelta the change in the number of completed tasks
+     */
+    public void record(long totalDelta, long completedDelta) {
+        if (!enabled || (totalDelta == 0 && completedDelta == 0)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(totalDelta, completedDelta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(totalDelta, completedDelta);
+            }
+        });
+    }
+
+    /**
+     * Marks the counters out of date, so the next read re-reads them from the
+     * database. Called when another instance reports a write.
+     */
+    public void markStale() {
+        synced = false;
+    }
+
+    /**
+     * Re-reads the counts from the database. Writes committing while the
+     * aggregate runs may be counted twice or not at all until the next resync.
+     * A write reported by another instance while the aggregate runs leaves the
+     * counters stale, since the aggregate may have missed it. The aggregate
+     * runs on the primary, because a lagging replica's counts would be kept
+     * until the next resync.
+     */
+    public synchronized void resync() {
+        synced = true;
+        TaskStats stats;
+        try {
+            stats = ReplicaRoutingDataSource.readFromPrimary(taskRepository::countStats);
+        } catch (RuntimeException ex) {
+            synced = false;
+            throw ex;
+        }
+        total.set(stats.getTotal());
+        completed.set(stats.getCompleted());
+        syncedAt = System.nanoTime();
+        initialized = true;
+    }
+
+    private void apply(long totalDelta, long completedDelta) {
+        total.addAndGet(totalDelta);
+        completed.addAndGet(completedDelta);
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.TaskQueueFullException;
+import com.example.taskmanager.model.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue for task creation. Accepted tasks get their id up front
+ * and are held in a bounded in-memory queue; a single background thread drains
+ * the queue and inserts up to batch-size tasks per transaction. When the queue
+ * is full, new tasks are rejected so callers back off instead of piling up
+ * memory.
+ *
+ * <p>Accepted tasks are not durable until written: tasks still queued when the
+ * process dies are lost. On a normal shutdown the queue is drained after the
+ * web server has stopped taking requests, for up to the shutdown timeout.
+ */
+@Component
+@ConditionalOnProperty(name = "task.write-behind.enabled", havingValue = "true")
+public class TaskWriteBehind implements SmartLifecycle {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TaskWriteBehind.class);
+
+    /** How long the writer waits for a task before re-checking whether it should stop. */
+    private static final long POLL_TIMEOUT_MS = 100;
+
+    private final TaskIdAllocator idAllocator;
+    private final TaskService taskService;
+    private final BlockingQueue<Task> queue;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer flushes;
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Constructs a TaskWriteBehind.
+     *
+     * @param idAllocator     hands out task ids before the insert
+     * @param taskService     inserts each batch
+     * @param meterRegistry   the registry for queue depth, throughput and flush metrics
+     * @param capacity        the maximum number of tasks waiting to be written
+     * @param batchSize       the maximum number of tasks inserted per transaction
+     * @param shutdownTimeout how long shutdown waits for the queue to drain
+     */
+    @Autowired
+    public TaskWriteBehind(TaskIdAllocator idAllocator, TaskService taskService, MeterRegistry meterRegistry,
+            @Value("${task.write-behind.capacity:10000}") int capacity,
+            @Value("${task.write-behind.batch-size:500}") int batchSize,
+            @Value("${task.write-behind.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("task.write-behind.capacity and batch-size must be at least 1");
+        }
+        this.idAllocator = idAllocator;
+        this.taskService = taskService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        meterRegistry.gauge("tasks.write_behind.queue.depth", queue, BlockingQueue::size);
+        this.accepted = meterRegistry.counter("tasks.write_behind.accepted");
+        this.rejected = meterRegistry.counter("tasks.write_behind.rejected");
+        this.written = meterRegistry.counter("tasks.write_behind.written");
+        this.failed = meterRegistry.counter("tasks.write_behind.failed");
+        this.flushes = meterRegistry.timer("tasks.write_behind.flush");
+    }
+
+    /**
+     * Accepts a task for asynchronous creation.
+     *
+     * @param task the validated task; it is copied, not queued itself
+     * @return the task as it will be written, with its id, version and timestamps
+     * @throws TaskQueueFullException if the queue is full or the writer is not running
+     */
+    public Task enqueue(Task task) {
+        if (!running) {
+            rejected.increment();
+            throw new TaskQueueFullException("Task queue is not accepting tasks, retry later", 1);
+        }
+        Task pending = new Task(task.getTitle(), task.getDescription(), task.isCompleted());
+        LocalDateTime now = LocalDateTime.now();
+        pending.setId(idAllocator.next());
+        pending.setVersion(0L);
+        pending.setCreatedAt(now);
+        pending.setUpdatedAt(now);
+        if (!queue.offer(pending)) {
+            rejected.increment();
+            throw new TaskQueueFullException("Task queue is full, retry later", 1);
+        }
+        accepted.increment();
+        return pending;
+    }
+
+    /**
+     * Returns the number of tasks waiting to be written.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "task-write-behind");
+        writer.start();
+    }
+
+    /**
+     * Stops accepting tasks and waits for the writer to flush what is queued.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writer.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            LOG.warn("Write-behind queue did not drain within {}; {} tasks not written",
+                    shutdownTimeout, queue.size());
+            writer.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs in a low phase so it starts before and stops after the web server:
+     * no request can enqueue a task once the final drain has begun.
+     *
+     * @return the lifecycle phase
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void drain() {
+        List<Task> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Task first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction. If the batch fails, its tasks are
+     * retried one by one so a single bad row does not lose the rest.
+     */
+    void flush(List<Task> batch) {
+        try {
+            flushes.record(() -> taskService.insertAll(batch));
+            written.increment(batch.size());
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                failed.increment();
+                LOG.error("Failed to write queued task {}", batch.get(0).getId(), ex);
+                return;
+            }
+            LOG.warn("Failed to write batch of {} queued tasks, retrying individually", batch.size(), ex);
+            for (Task task : batch) {
+                flush(List.of(task));
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+-- Migrates an existing identity-keyed task table to the pooled task_seq sequence.
+-- Run once against PostgreSQL before deploying a build that uses TaskIdGenerator.
+-- The INCREMENT BY value must match task.id.allocation-size (default 50).
+
+BEGIN;
+
+LOCK TABLE task IN EXCLUSIVE MODE;
+
+ALTER TABLE task ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE task ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS task_seq START WITH 1 INCREMENT BY 50;
+ALTER SEQUENCE task_seq INCREMENT BY 50;
+
+-- The pooled optimizer treats each sequence value as the top of its block,
+-- so the next value must be at least one full block above the highest id.
+SELECT setval('task_seq', COALESCE((SELECT MAX(id) FROM task), 0) + 50, false);
+
+COMMIT;
@@ -0,0 +1,14 @@
+-- Adds the full-text search column and its GIN index to the task table.
+-- Run once against PostgreSQL before deploying a build with GET /tasks/search.
+-- The column is generated, so PostgreSQL keeps it current on every insert and update.
+-- Title words get weight A and description words weight B, so ts_rank favours title matches.
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- CONCURRENTLY avoids blocking writes while the index builds on a large table;
+-- it cannot run inside a transaction block.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_search ON task USING GIN (search_vector);
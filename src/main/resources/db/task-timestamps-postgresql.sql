@@ -0,0 +1,22 @@
+-- Adds the created_at/updated_at columns and the filter/sort indexes to an existing task table.
+-- Run once against PostgreSQL before deploying a build where Task has @CreationTimestamp.
+-- Existing rows are backfilled with the migration time.
+-- The index names and columns match the @Index declarations on Task.
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE task ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+-- CONCURRENTLY avoids blocking writes while the indexes build on a large table;
+-- it cannot run inside a transaction block. A build that fails leaves an INVALID
+-- index behind, which must be dropped before re-running this script.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_id ON task (completed, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_created ON task (completed, created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_completed_updated ON task (completed, updated_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_created ON task (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_updated ON task (updated_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_title ON task (title, id);
+
+-- Serves the title prefix filter only. text_pattern_ops lets LIKE 'prefix%' use
+-- an index under non-C collations, but its order is not the collation order,
+-- so it cannot serve sort=title; idx_task_title does that.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_task_title_prefix ON task (title text_pattern_ops);
@@ -0,0 +1,5 @@
+-- Adds the optimistic-locking version column to an existing task table.
+-- Run once against PostgreSQL before deploying a build where Task has @Version;
+-- Hibernate's ddl-auto=update cannot add a NOT NULL column to a populated table.
+
+ALTER TABLE task ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,177 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.service.ReactiveTaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReactiveTaskController
+ * Tests the WebFlux endpoints and error mapping with a mocked reactive service
+ */
+@WebFluxTest(ReactiveTaskController.class)
+@ActiveProfiles("reactive")
+class ReactiveTaskControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveTaskService taskService;
+
+    private Task testTask;
+
+    @BeforeEach
+    void setUp() {
+        testTask = new Task("Test Task", "Test Description", false);
+        testTask.setId(1L);
+        testTask.setVersion(0L);
+    }
+
+    @Test
+    void getTaskById_ShouldReturnTaskWithETag() {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(Mono.just(testTask));
+
+        // Act & Assert
+        webTestClient.get().uri("/tasks/1").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1-0\"")
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("success")
+                .jsonPath("$.data.title").isEqualTo("Test Task");
+    }
+
+    @Test
+    void getTaskById_WhenMissing_ShouldReturn404() {
+        // Arrange
+        when(taskService.getTaskById(99L)).thenReturn(Mono.error(new ResourceNotFoundException("Task", 99L)));
+
+        // Act & Assert
+        webTestClient.get().uri("/tasks/99").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("error")
+                .jsonPath("$.message").isEqualTo("Task not found with id: 99");
+    }
+
+    @Test
+    void getAllTasks_WithFields_ShouldReturnOnlyRequestedFields() {
+        // Arrange
+        when(taskService.findTasks(any(TaskQuery.class), isNull(), eq(50)))
+                .thenReturn(Mono.just(new CursorPage<>(List.of(testTask), "next")));
+
+        // Act & Assert
+        webTestClient.get().uri("/tasks?fields=title").exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody()
+                .jsonPath("$.data.items[0].id").isEqualTo(1)
+                .jsonPath("$.data.items[0].title").isEqualTo("Test Task")
+                .jsonPath("$.data.items[0].description").doesNotExist()
+                .jsonPath("$.data.nextCursor").isEqualTo("next");
+    }
+
+    @Test
+    void createTask_WithValidData_ShouldReturn201LikeServletStack() {
+        // Arrange
+        when(taskService.createTask(any(Task.class))).thenReturn(Mono.just(testTask));
+
+        // Act & Assert
+        webTestClient.post().uri("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Task("Test Task", "Test Description", false))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().doesNotExist(HttpHeaders.LOCATION)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Task created successfully")
+                .jsonPath("$.data").doesNotExist();
+        verify(taskService).createTask(any(Task.class));
+    }
+
+    @Test
+    void createTask_WithInvalidData_ShouldReturn400() {
+        // Act & Assert
+        webTestClient.post().uri("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Task("AB", "Description", false))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Validation failed")
+                .jsonPath("$.errors[0]").value(error -> assertThat((String) error).startsWith("title:"));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void updateTask_WithStaleIfMatch_ShouldReturn412() {
+        // Arrange
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(0L)))
+                .thenReturn(Mono.error(new PreconditionFailedException("Task", 1L)));
+
+        // Act & Assert
+        webTestClient.put().uri("/tasks/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new Task("Updated Task", null, true))
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Task with id 1 has been modified");
+    }
+
+    @Test
+    void deleteTask_ShouldReturnSuccessMessage() {
+        // Arrange
+        when(taskService.deleteTask(1L, null)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        webTestClient.delete().uri("/tasks/1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Task deleted successfully");
+    }
+
+    @Test
+    void exportTasks_ShouldStreamNewlineDelimitedJson() {
+        // Arrange
+        Task task2 = new Task("Task 2", "Description 2", true);
+        task2.setId(2L);
+        when(taskService.exportTasks()).thenReturn(Flux.just(testTask, task2));
+
+        // Act
+        List<Task> exported = webTestClient.get().uri("/tasks/export")
+                .accept(MediaType.parseMediaType(TaskController.NDJSON))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Task.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Assert
+        assertThat(exported).extracting(Task::getId).containsExactly(1L, 2L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskmanager.load;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test comparing the servlet/JPA stack with the WebFlux/R2DBC stack of the
+ * reactive profile, on GET /tasks/{id} and on a page of GET /tasks, at high
+ * concurrency. Both stacks get a 50-connection pool and the cache is off, so
+ * every request reaches the database.
+ * Excluded from the default build; run with {@code mvn test -Pload-test,reactive -Dtest=ReactiveLoadTest}.
+ * Set {@code load.profile=prod} with the SPRING_DATASOURCE_* and SPRING_R2DBC_URL
+ * variables pointing at a local PostgreSQL to measure real network I/O; on
+ * in-memory H2 the database calls barely block.
+ */
+@Tag("load")
+class ReactiveLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 2000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 50_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup", 5_000);
+    private static final int PAGE_SIZE = Integer.getInteger("load.list-size", 50);
+    private static final String PROFILE = System.getProperty("load.profile", "dev");
+
+    @Test
+    void servletVersusReactive() throws Exception {
+        List<ClosedLoopDriver.Result> servlet = run(false);
+        List<ClosedLoopDriver.Result> reactive = run(true);
+
+        System.out.printf("profile=%s, %d requests, %d concurrent%n", PROFILE, REQUESTS, CONCURRENCY);
+        System.out.println("GET /tasks/{id}");
+        System.out.println(servlet.get(0).describe("servlet"));
+        System.out.println(reactive.get(0).describe("reactive"));
+        System.out.printf("GET /tasks?size=%d%n", PAGE_SIZE);
+        System.out.println(servlet.get(1).describe("servlet"));
+        System.out.println(reactive.get(1).describe("reactive"));
+
+        assertThat(servlet).allMatch(result -> result.errors() == 0);
+        assertThat(reactive).allMatch(result -> result.errors() == 0);
+    }
+
+    private List<ClosedLoopDriver.Result> run(boolean reactive) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.cache.type=none",
+                        "task.admission.enabled=false",
+                        "spring.datasource.hikari.maximum-pool-size=50",
+                        "spring.r2dbc.pool.max-size=50");
+        builder = reactive ? builder.profiles(PROFILE, "reactive") : builder.profiles(PROFILE);
+        try (ConfigurableApplicationContext context = builder.run()) {
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            List<Task> tasks = taskRepository.saveAll(IntStream.range(0, PAGE_SIZE * 2)
+                    .mapToObj(i -> new Task("Load Task " + i, "Load test description", i % 2 == 0))
+                    .toList());
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUri = "http://localhost:" + port + "/tasks";
+
+            ClosedLoopDriver driver = new ClosedLoopDriver(CONCURRENCY);
+            List<ClosedLoopDriver.Result> results = new ArrayList<>();
+            for (URI uri : List.of(URI.create(baseUri + "/" + tasks.get(0).getId()),
+                    URI.create(baseUri + "?size=" + PAGE_SIZE))) {
+                driver.drive(uri, WARMUP_REQUESTS);
+                results.add(driver.drive(uri, REQUESTS));
+            }
+            return results;
+        }
+    }
+}
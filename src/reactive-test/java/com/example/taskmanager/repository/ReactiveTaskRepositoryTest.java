@@ -0,0 +1,82 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.model.Task;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReactiveTaskRepository
+ * Tests id allocation from the pooled task sequence with in-memory H2 over R2DBC
+ */
+class ReactiveTaskRepositoryTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private DatabaseClient databaseClient;
+
+    private ReactiveTaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        ConnectionFactory connectionFactory =
+                ConnectionFactories.get("r2dbc:h2:mem:///reactive-ids;DB_CLOSE_DELAY=-1");
+        databaseClient = DatabaseClient.create(connectionFactory);
+        execute("drop table if exists task");
+        execute("drop sequence if exists task_seq");
+        execute("create sequence task_seq start with 1 increment by " + ALLOCATION_SIZE);
+        execute("create table task (id bigint primary key, title varchar(100), description varchar(500),"
+                + " completed boolean, version bigint, created_at timestamp, updated_at timestamp)");
+        taskRepository = new ReactiveTaskRepository(connectionFactory, ALLOCATION_SIZE);
+    }
+
+    @Test
+    void insert_ShouldTakeIdsFromOneSequenceBlock() {
+        // Arrange
+        execute("select next value for task_seq");
+        execute("select next value for task_seq");
+
+        // Act
+        List<Long> ids = insertTasks(3);
+
+        // Assert
+        assertThat(ids).containsExactly(52L, 53L, 54L);
+        assertThat(nextSequenceValue()).isEqualTo(151L);
+    }
+
+    @Test
+    void insert_WhenBlockIsUsedUp_ShouldReserveNextBlock() {
+        // Act
+        List<Long> ids = insertTasks(ALLOCATION_SIZE + 2);
+
+        // Assert
+        assertThat(ids).doesNotHaveDuplicates().startsWith(1L, 2L, 3L).endsWith(52L);
+        assertThat(nextSequenceValue()).isEqualTo(151L);
+    }
+
+    private List<Long> insertTasks(int count) {
+        return Flux.range(0, count)
+                .concatMap(i -> taskRepository.insert(new Task("Task " + i, null, false)))
+                .map(Task::getId)
+                .collectList()
+                .block();
+    }
+
+    private long nextSequenceValue() {
+        return databaseClient.sql("select next value for task_seq")
+                .map(row -> ((Number) row.get(0)).longValue())
+                .one()
+                .block();
+    }
+
+    private void execute(String sql) {
+        databaseClient.sql(sql).then().block();
+    }
+}
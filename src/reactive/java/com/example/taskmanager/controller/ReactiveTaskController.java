@@ -0,0 +1,179 @@
+package com.example.taskmanager.controller;
+
+import com.example.taskmanager.dto.ApiResponse;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.service.ReactiveTaskService;
+import com.example.taskmanager.service.TaskFields;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * WebFlux version of TaskController for the reactive profile. It serves a
+ * subset of the /tasks contract: cursor pages filtered only by
+ * {@code completed}, single-task reads and writes, stats and the NDJSON export,
+ * with the same JSON bodies and status codes. Search, bulk operations, sorting
+ * and the other TaskQuery filters are not mapped. Responses are JSON only, so
+ * ETags always describe the JSON encoding and carry no {@code Vary: Accept}.
+ * There is no write-behind queue either: POST answers 201 with no task, never
+ * 202 or 429.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/tasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    /**
+     * Constructs a ReactiveTaskController.
+     *
+     * @param taskService the reactive task service
+     */
+    @Autowired
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * Retrieves a page of tasks using keyset pagination, optionally filtered by completion status.
+     *
+     * @param query  the filter criteria, bound from query parameters
+     * @param cursor the opaque cursor returned with the previous page, absent for the first page
+     * @param size   the number of tasks per page
+     * @param fields comma-separated task fields to return, absent for all fields
+     * @return response entity containing the page of tasks and the next cursor, or 304 if unchanged
+     */
+    @GetMapping
+    public Mono<ResponseEntity<ApiResponse<CursorPage<?>>>> getAllTasks(
+            TaskQuery query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "${task.pagination.default-size:50}") int size,
+            @RequestParam(required = false) String fields) {
+        Set<String> fieldSet = TaskFields.parse(fields);
+        return taskService.findTasks(query, cursor, size).map(page -> {
+            if (fieldSet == null) {
+                return ResponseEntity.ok()
+                        .eTag(TaskETags.of(page.getItems(), page.getNextCursor(), MediaType.APPLICATION_JSON))
+                        .body(ApiResponse.success("Tasks retrieved successfully", page));
+            }
+            List<SparseTask> items = page.getItems().stream()
+                    .map(task -> TaskFields.select(task, fieldSet))
+                    .toList();
+            return ResponseEntity.ok()
+                    .eTag(TaskETags.ofSparse(items, page.getNextCursor(), fieldSet, MediaType.APPLICATION_JSON))
+                    .body(ApiResponse.success("Tasks retrieved successfully",
+                            new CursorPage<>(items, page.getNextCursor())));
+        });
+    }
+
+    /**
+     * Retrieves the total, completed and open task counts.
+     *
+     * @return response entity containing the task counts
+     */
+    @GetMapping("/stats")
+    public Mono<ResponseEntity<ApiResponse<TaskStats>>> getTaskStats() {
+        return taskService.getTaskStats()
+                .map(stats -> ResponseEntity.ok(ApiResponse.success("Task stats retrieved successfully", stats)));
+    }
+
+    /**
+     * Exports every task as newline-delimited JSON, one task per line. Rows
+     * are read from the database only as fast as the client consumes them.
+     *
+     * @return the stream of all tasks
+     */
+    @GetMapping(value = "/export", produces = TaskController.NDJSON)
+    public Flux<Task> exportTasks() {
+        return taskService.exportTasks();
+    }
+
+    /**
+     * Retrieves a task by ID. A matching If-None-Match header is answered
+     * with 304 Not Modified.
+     *
+     * @param id the task ID
+     * @return response entity containing the task and its ETag
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Task>>> getTaskById(@PathVariable Long id) {
+        return taskService.getTaskById(id)
+                .map(task -> ResponseEntity.ok()
+                        .eTag(TaskETags.of(task, MediaType.APPLICATION_JSON))
+                        .body(ApiResponse.success("Task retrieved successfully", task)));
+    }
+
+    /**
+     * Creates a new task. As on the servlet stack without write-behind, the
+     * response is 201 with a success message and no task.
+     *
+     * @param task the task to create
+     * @return response entity with success message
+     */
+    @PostMapping
+    public Mono<ResponseEntity<ApiResponse<Task>>> createTask(@Valid @RequestBody Task task) {
+        return taskService.createTask(task)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Task created successfully")));
+    }
+
+    /**
+     * Updates an existing task. With an If-Match header the update only
+     * applies if the task still has that ETag.
+     *
+     * @param id          the task ID
+     * @param taskDetails the updated task details
+     * @param ifMatch     the ETag the client last saw, optional
+     * @return response entity with success message and the new ETag
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> updateTask(
+            @PathVariable Long id,
+            @Valid @RequestBody Task taskDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.updateTask(id, taskDetails, TaskETags.expectedVersion(ifMatch, id))
+                .map(task -> ResponseEntity.ok()
+                        .eTag(TaskETags.of(task, MediaType.APPLICATION_JSON))
+                        .body(ApiResponse.success("Task updated successfully")));
+    }
+
+    /**
+     * Deletes a task by ID. With an If-Match header the delete only applies
+     * if the task still has that ETag.
+     *
+     * @param id      the task ID
+     * @param ifMatch the ETag the client last saw, optional
+     * @return response entity with success message
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<Void>>> deleteTask(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return taskService.deleteTask(id, TaskETags.expectedVersion(ifMatch, id))
+                .thenReturn(ResponseEntity.ok(ApiResponse.success("Task deleted successfully")));
+    }
+}
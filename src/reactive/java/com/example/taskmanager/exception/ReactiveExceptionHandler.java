@@ -0,0 +1,77 @@
+package com.example.taskmanager.exception;
+
+import com.example.taskmanager.dto.ErrorResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Exception handler for the reactive profile. Maps the same exceptions to
+ * the same statuses and ErrorResponse bodies as GlobalExceptionHandler, plus
+ * the WebFlux-specific binding and request errors.
+ */
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        return new ResponseEntity<>(new ErrorResponse(ex.getMessage()), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex) {
+        return new ResponseEntity<>(new ErrorResponse(ex.getMessage()), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(TaskValidationException.class)
+    public ResponseEntity<ErrorResponse> handleTaskValidationException(TaskValidationException ex) {
+        return new ResponseEntity<>(new ErrorResponse(ex.getMessage(), ex.getErrors()), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles request body validation failures.
+     *
+     * @param ex the exception
+     * @return error response with BAD_REQUEST status and one entry per invalid field
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleValidationExceptions(WebExchangeBindException ex) {
+        List<String> errors = ex.getFieldErrors().stream()
+                .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                .toList();
+        return new ResponseEntity<>(new ErrorResponse("Validation failed", errors), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles errors WebFlux raises with a status of their own, such as a
+     * missing parameter or an unreadable body.
+     *
+     * @param ex the exception
+     * @return error response with the exception's status
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatusException(ResponseStatusException ex) {
+        String message = ex.getReason() != null ? ex.getReason() : ex.getMessage();
+        return new ResponseEntity<>(new ErrorResponse(message), ex.getStatusCode());
+    }
+
+    /**
+     * Handles all other exceptions.
+     *
+     * @param ex the exception
+     * @return error response with INTERNAL_SERVER_ERROR status
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex) {
+        return new ResponseEntity<>(
+                new ErrorResponse("An unexpected error occurred: " + ex.getMessage()),
+                HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.taskmanager.repository;
+
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskIdGenerator;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking access to the task table over R2DBC, used by the reactive
+ * profile. Queries are written by hand against the schema that Hibernate
+ * maps for {@link Task}, and run on both H2 and PostgreSQL.
+ *
+ * <p>New tasks take their ids from {@code task_seq} the way Hibernate's pooled
+ * optimizer does: each sequence value {@code n} reserves the block
+ * {@code n - allocationSize + 1 .. n}, which is handed out in memory before the
+ * sequence is called again. Blocks reserved here and by JPA are disjoint in the
+ * same way as blocks reserved by two JPA instances, and the sequence's
+ * INCREMENT BY still matches {@code spring.jpa.properties.task.id.allocation-size}.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveTaskRepository {
+
+    private static final String COLUMNS = "id, title, description, completed, version, created_at, updated_at";
+    private static final String SELECT_TASKS = "select " + COLUMNS + " from task";
+
+    private final DatabaseClient databaseClient;
+    private final String nextIdQuery;
+    private final long allocationSize;
+    private final Object idLock = new Object();
+    private long nextId = 1;
+    private long lastId;
+
+    /**
+     * Constructs a ReactiveTaskRepository.
+     *
+     * @param connectionFactory the R2DBC connection factory
+     * @param allocationSize    the number of ids reserved per sequence call, as configured for JPA
+     */
+    @Autowired
+    public ReactiveTaskRepository(ConnectionFactory connectionFactory,
+            @Value("${spring.jpa.properties." + TaskIdGenerator.ALLOCATION_SIZE_SETTING + ":50}") long allocationSize) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.allocationSize = allocationSize;
+        this.nextIdQuery = connectionFactory.getMetadata().getName().contains("PostgreSQL")
+                ? "select nextval('task_seq')"
+                : "select next value for task_seq";
+    }
+
+    /**
+     * Keyset query for cursor pagination, optionally restricted to one completion status.
+     *
+     * @param afterId   the id to continue after
+     * @param completed the completion status to match, or null for all tasks
+     * @param limit     the maximum number of rows to return
+     * @return tasks with an id greater than the given one, in id order
+     */
+    public Flux<Task> findPage(long afterId, Boolean completed, int limit) {
+        String sql = SELECT_TASKS + " where id > :afterId"
+                + (completed == null ? "" : " and completed = :completed")
+                + " order by id limit :limit";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("afterId", afterId)
+                .bind("limit", limit);
+        if (completed != null) {
+            spec = spec.bind("completed", completed);
+        }
+        return spec.map(ReactiveTaskRepository::toTask).all();
+    }
+
+    /**
+     * Streams every task in id order. Rows are fetched from the database in
+     * chunks of {@code fetchSize} as the subscriber requests them, so a slow
+     * consumer holds back the query instead of buffering the table.
+     *
+     * @param fetchSize the number of rows the driver fetches per round trip
+     * @return all tasks
+     */
+    public Flux<Task> streamAll(int fetchSize) {
+        return databaseClient.sql(SELECT_TASKS + " order by id")
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveTaskRepository::toTask)
+                .all();
+    }
+
+    /**
+     * Finds a task by id.
+     *
+     * @param id the task ID
+     * @return the task, or empty if there is none
+     */
+    public Mono<Task> findById(long id) {
+        return databaseClient.sql(SELECT_TASKS + " where id = :id")
+                .bind("id", id)
+                .map(ReactiveTaskRepository::toTask)
+                .one();
+    }
+
+    /**
+     * Returns whether a task exists.
+     *
+     * @param id the task ID
+     * @return true if a task with the id exists
+     */
+    public Mono<Boolean> existsById(long id) {
+        return databaseClient.sql("select 1 from task where id = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .one()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Inserts a new task with an id from the task sequence and version 0.
+     *
+     * @param task the task to insert; its id, version and timestamps are ignored
+     * @return the inserted task
+     */
+    public Mono<Task> insert(Task task) {
+        return nextId()
+                .flatMap(id -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    Task saved = new Task(task.getTitle(), task.getDescription(), task.isCompleted());
+                    saved.setId(id);
+                    saved.setVersion(0L);
+                    saved.setCreatedAt(now);
+                    saved.setUpdatedAt(now);
+                    DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("insert into task (" + COLUMNS + ")"
+                                    + " values (:id, :title, :description, :completed, 0, :now, :now)")
+                            .bind("id", id)
+                            .bind("title", saved.getTitle())
+                            .bind("completed", saved.isCompleted())
+                            .bind("now", now);
+                    return bindDescription(spec, saved.getDescription())
+                            .fetch()
+                            .rowsUpdated()
+                            .thenReturn(saved);
+                });
+    }
+
+    /**
+     * Updates a task and increments its version, optionally only if it is still
+     * at the expected version.
+     *
+     * @param id              the task ID
+     * @param details         the new title, description and completion status
+     * @param expectedVersion the version the task must be at, or null to update unconditionally
+     * @return the number of rows updated
+     */
+    public Mono<Long> update(long id, Task details, Long expectedVersion) {
+        String sql = "update task set title = :title, description = :description, completed = :completed,"
+                + " version = version + 1, updated_at = :now where id = :id"
+                + (expectedVersion == null ? "" : " and version = :version");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("id", id)
+                .bind("title", details.getTitle())
+                .bind("completed", details.isCompleted())
+                .bind("now", LocalDateTime.now());
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        return bindDescription(spec, details.getDescription()).fetch().rowsUpdated();
+    }
+
+    /**
+     * Deletes a task, optionally only if it is still at the expected version.
+     *
+     * @param id              the task ID
+     * @param expectedVersion the version the task must be at, or null to delete unconditionally
+     * @return the number of rows deleted
+     */
+    public Mono<Long> delete(long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return databaseClient.sql("delete from task where id = :id")
+                    .bind("id", id)
+                    .fetch()
+                    .rowsUpdated();
+        }
+        return databaseClient.sql("delete from task where id = :id and version = :version")
+                .bind("id", id)
+                .bind("version", expectedVersion)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Counts all tasks and completed tasks in one aggregate query.
+     *
+     * @return the task counts
+     */
+    public Mono<TaskStats> countStats() {
+        return databaseClient.sql("select count(*), coalesce(sum(case when completed then 1 else 0 end), 0)"
+                        + " from task")
+                .map(row -> new TaskStats(((Number) row.get(0)).longValue(), ((Number) row.get(1)).longValue()))
+                .one();
+    }
+
+    /**
+     * Takes the next id of the current block, reserving a new block from the
+     * sequence when it is used up.
+     */
+    private Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            synchronized (idLock) {
+                if (nextId <= lastId) {
+                    return Mono.just(nextId++);
+                }
+            }
+            return databaseClient.sql(nextIdQuery)
+                    .map(row -> ((Number) row.get(0)).longValue())
+                    .one()
+                    .map(this::reserveBlock);
+        });
+    }
+
+    /**
+     * Returns the first id of the block ending at the given sequence value and
+     * keeps the rest for later inserts. If another insert already reserved a
+     * fresh block meanwhile, that one is kept and the rest of this block is
+     * left unused, as Hibernate leaves a block unused on restart.
+     */
+    private long reserveBlock(long sequenceValue) {
+        long first = Math.max(sequenceValue - allocationSize + 1, 1);
+        synchronized (idLock) {
+            if (nextId > lastId) {
+                nextId = first + 1;
+                lastId = sequenceValue;
+            }
+        }
+        return first;
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindDescription(DatabaseClient.GenericExecuteSpec spec,
+            String description) {
+        return description == null
+                ? spec.bindNull("description", String.class)
+                : spec.bind("description", description);
+    }
+
+    private static Task toTask(Readable row) {
+        Task task = new Task(row.get("title", String.class), row.get("description", String.class),
+                Boolean.TRUE.equals(row.get("completed", Boolean.class)));
+        task.setId(row.get("id", Long.class));
+        task.setVersion(row.get("version", Long.class));
+        task.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        task.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return task;
+    }
+}
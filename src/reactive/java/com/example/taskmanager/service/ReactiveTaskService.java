@@ -0,0 +1,164 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.exception.PreconditionFailedException;
+import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.exception.TaskValidationException;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.ReactiveTaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking counterpart of TaskService for the reactive profile. Every
+ * write is a single statement, so no reactive transaction is needed. There is
+ * no task cache, search index or stats counter here: reads go to the
+ * database. Writes are still published to the cache invalidator, so servlet
+ * instances sharing the database drop their cached copies.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveTaskService {
+
+    /** Rows the driver fetches per round trip while exporting. */
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private final ReactiveTaskRepository taskRepository;
+    private final TaskCacheInvalidator taskCacheInvalidator;
+
+    /**
+     * Constructs a ReactiveTaskService.
+     *
+     * @param taskRepository       the reactive task repository
+     * @param taskCacheInvalidator tells other instances which cached tasks are stale
+     */
+    @Autowired
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository, TaskCacheInvalidator taskCacheInvalidator) {
+        this.taskRepository = taskRepository;
+        this.taskCacheInvalidator = taskCacheInvalidator;
+    }
+
+    /**
+     * Retrieves one page of tasks ordered by id, continuing after the given
+     * cursor. Only the {@code completed} filter is supported; other filters
+     * and sorts are rejected rather than ignored.
+     *
+     * @param taskQuery the filter criteria
+     * @param cursor    the opaque cursor from a previous page, or null for the first page
+     * @param size      the number of tasks per page
+     * @return the page of tasks with the cursor of the next page
+     */
+    public Mono<CursorPage<Task>> findTasks(TaskQuery taskQuery, String cursor, int size) {
+        return Mono.fromCallable(() -> {
+            if (size < 1 || size > TaskService.MAX_PAGE_SIZE) {
+                throw new TaskValidationException("Page size must be between 1 and " + TaskService.MAX_PAGE_SIZE);
+            }
+            if (!taskQuery.isFilteredByCompletionOnly()) {
+                throw new TaskValidationException("Only the 'completed' filter is supported by the reactive API");
+            }
+            return TaskCursor.decode(cursor);
+        }).flatMap(afterId -> taskRepository.findPage(afterId, taskQuery.getCompleted(), size + 1)
+                .collectList()
+                .map(rows -> page(rows, size)));
+    }
+
+    /**
+     * Streams every task in id order, fetching more rows only as the
+     * subscriber demands them.
+     *
+     * @return all tasks
+     */
+    public Flux<Task> exportTasks() {
+        return taskRepository.streamAll(EXPORT_FETCH_SIZE);
+    }
+
+    /**
+     * Retrieves a task by ID.
+     *
+     * @param id the task ID
+     * @return the task, or an error if it does not exist
+     */
+    public Mono<Task> getTaskById(Long id) {
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Task", id)));
+    }
+
+    /**
+     * Inserts a new task with a single statement. The id comes from the
+     * {@code task_seq} sequence, as on the servlet stack.
+     *
+     * @param task the task to create
+     * @return the created task with its id, version and timestamps
+     */
+    public Mono<Task> createTask(Task task) {
+        return taskRepository.insert(task)
+                .doOnNext(created -> taskCacheInvalidator.invalidate(List.of()));
+    }
+
+    /**
+     * Updates an existing task with a single UPDATE statement and reads it back.
+     *
+     * @param id              the task ID
+     * @param taskDetails     the updated task details
+     * @param expectedVersion the version the client last saw, or null to update unconditionally
+     * @return the updated task
+     */
+    public Mono<Task> updateTask(Long id, Task taskDetails, Long expectedVersion) {
+        return taskRepository.update(id, taskDetails, expectedVersion)
+                .flatMap(updated -> updated == 0
+                        ? missingOrModified(id, expectedVersion)
+                        : changed(id).then(getTaskById(id)));
+    }
+
+    /**
+     * Deletes a task by ID with a single DELETE statement.
+     *
+     * @param id              the task ID
+     * @param expectedVersion the version the client last saw, or null to delete unconditionally
+     * @return completion, or an error if the task is missing or was modified
+     */
+    public Mono<Void> deleteTask(Long id, Long expectedVersion) {
+        return taskRepository.delete(id, expectedVersion)
+                .flatMap(deleted -> deleted == 0
+                        ? missingOrModified(id, expectedVersion).then()
+                        : changed(id));
+    }
+
+    /**
+     * Returns the total, completed and open task counts. There are no
+     * counters on this stack, so every call runs the aggregate query.
+     *
+     * @return the task counts
+     */
+    public Mono<TaskStats> getTaskStats() {
+        return taskRepository.countStats();
+    }
+
+    private Mono<Void> changed(Long id) {
+        return Mono.fromRunnable(() -> taskCacheInvalidator.invalidate(List.of(id)));
+    }
+
+    private Mono<Task> missingOrModified(Long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return Mono.error(new ResourceNotFoundException("Task", id));
+        }
+        return taskRepository.existsById(id).flatMap(exists -> Mono.error(exists
+                ? new PreconditionFailedException("Task", id)
+                : new ResourceNotFoundException("Task", id)));
+    }
+
+    private static CursorPage<Task> page(List<Task> rows, int size) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<Task> items = rows.subList(0, size);
+        return new CursorPage<>(items, TaskCursor.encode(items.get(size - 1).getId()));
+    }
+}
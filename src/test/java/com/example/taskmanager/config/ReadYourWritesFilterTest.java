@@ -0,0 +1,143 @@
+package com.example.taskmanager.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for ReadYourWritesFilter and ReplicaRoutingDataSource
+ * Tests which pool read-only transactions are routed to around a client's writes
+ */
+class ReadYourWritesFilterTest {
+
+    private final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class));
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    private final List<Object> routes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void read_WithoutCookie_ShouldUseReplica() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> routes.add(route()));
+
+        // Assert
+        assertThat(routes).containsExactly(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void write_ShouldSetCookieAndUsePrimary() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/tasks/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> routes.add(route()));
+
+        // Assert
+        assertThat(routes).containsExactly(ReplicaRoutingDataSource.PRIMARY);
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+        assertThat(route()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void read_WithUnexpiredCookie_ShouldUsePrimary() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(System.currentTimeMillis() + 2000)));
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> routes.add(route()));
+
+        // Assert
+        assertThat(routes).containsExactly(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void read_WithExpiredOrForgedCookie_ShouldUseReplica() throws Exception {
+        // Arrange
+        long now = System.currentTimeMillis();
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/tasks/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(now - 1000)));
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/tasks/1");
+        forged.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, Long.toString(now + 3_600_000)));
+
+        // Act
+        filter.doFilter(expired, new MockHttpServletResponse(), (req, res) -> routes.add(route()));
+        filter.doFilter(forged, new MockHttpServletResponse(), (req, res) -> routes.add(route()));
+
+        // Assert
+        assertThat(routes).containsExactly(ReplicaRoutingDataSource.REPLICA, ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+        // Act & Assert
+        assertThat(route()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readFromPrimary_ShouldUsePrimaryThenRestoreRouting() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/1");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            routes.add(ReplicaRoutingDataSource.readFromPrimary(this::route));
+            routes.add(route());
+        });
+
+        // Assert
+        assertThat(routes).containsExactly(ReplicaRoutingDataSource.PRIMARY, ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void readFromPrimary_WhenAlreadyPinned_ShouldStayPinned() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            routes.add(ReplicaRoutingDataSource.readFromPrimary(this::route));
+            routes.add(route());
+        });
+
+        // Assert
+        assertThat(routes).containsExactly(ReplicaRoutingDataSource.PRIMARY, ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private Object route() {
+        return routing.determineCurrentLookupKey();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.taskmanager.config;
+
+import com.example.taskmanager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TaskAdmissionInterceptor
+ * Tests admission, shedding and permit release around sync and async requests
+ */
+class TaskAdmissionInterceptorTest {
+
+    private final TaskAdmissionInterceptor interceptor = new TaskAdmissionInterceptor(true, 2, Duration.ZERO);
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_WhenAtLimit_ShouldShedWith503() throws Exception {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        interceptor.bindTo(registry);
+        interceptor.preHandle(request(), response, null);
+        interceptor.preHandle(request(), response, null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> interceptor.preHandle(request(), response, null))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage("Server is busy, retry later");
+        assertThat(interceptor.getInFlight()).isEqualTo(2);
+        assertThat(registry.get("tasks.admission.rejected").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void afterCompletion_ShouldReleasePermitOnce() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        interceptor.preHandle(request, response, null);
+
+        // Act
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertThat(interceptor.getInFlight()).isZero();
+    }
+
+    @Test
+    void asyncRequest_ShouldHoldPermitUntilAsyncDispatchCompletes() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = request();
+        interceptor.preHandle(request, response, null);
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        // Act
+        interceptor.preHandle(request, response, null);
+        int inFlightDuringAsync = interceptor.getInFlight();
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Assert
+        assertThat(inFlightDuringAsync).isEqualTo(1);
+        assertThat(interceptor.getInFlight()).isZero();
+    }
+
+    @Test
+    void preHandle_WhenDisabled_ShouldAdmitEverything() throws Exception {
+        // Arrange
+        TaskAdmissionInterceptor disabled = new TaskAdmissionInterceptor(false, 1, Duration.ZERO);
+
+        // Act
+        boolean first = disabled.preHandle(request(), response, null);
+        boolean second = disabled.preHandle(request(), response, null);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/tasks/1");
+    }
+}
@@ -1,9 +1,20 @@
 package com.example.taskmanager.controller;
 
+import com.example.taskmanager.config.WebConfig;
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.dto.TaskBatchRequest;
+import com.example.taskmanager.dto.TaskBatchResult;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
 import com.example.taskmanager.model.Task;
 import com.example.taskmanager.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,10 +22,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
@@ -45,28 +61,198 @@ class TaskControllerTest {
     void setUp() {
         testTask = new Task("Test Task", "Test Description", false);
         testTask.setId(1L);
+        testTask.setVersion(0L);
     }
 
     @Test
-    void getAllTasks_ShouldReturnSuccessResponse() throws Exception {
+    void getAllTasks_ShouldReturnFirstPage() throws Exception {
         // Arrange
         Task task2 = new Task("Task 2", "Description 2", true);
         task2.setId(2L);
-        List<Task> tasks = Arrays.asList(testTask, task2);
-        when(taskService.getAllTasks()).thenReturn(tasks);
+        CursorPage<Task> page = new CursorPage<>(Arrays.asList(testTask, task2), "next-token");
+        when(taskService.findTasks(any(TaskQuery.class), isNull(), eq(50))).thenReturn(page);
 
         // Act & Assert
         mockMvc.perform(get("/tasks"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status", is("success")))
                 .andExpect(jsonPath("$.message", is("Tasks retrieved successfully")))
-                .andExpect(jsonPath("$.data", hasSize(2)))
-                .andExpect(jsonPath("$.data[0].id", is(1)))
-                .andExpect(jsonPath("$.data[0].title", is("Test Task")))
-                .andExpect(jsonPath("$.data[1].id", is(2)))
-                .andExpect(jsonPath("$.data[1].title", is("Task 2")));
+                .andExpect(jsonPath("$.data.items", hasSize(2)))
+                .andExpect(jsonPath("$.data.items[0].id", is(1)))
+                .andExpect(jsonPath("$.data.items[0].title", is("Test Task")))
+                .andExpect(jsonPath("$.data.items[1].id", is(2)))
+                .andExpect(jsonPath("$.data.items[1].title", is("Task 2")))
+                .andExpect(jsonPath("$.data.nextCursor", is("next-token")))
+                .andExpect(jsonPath("$.data.hasMore", is(true)));
+
+        verify(taskService, times(1)).findTasks(any(TaskQuery.class), isNull(), eq(50));
+    }
+
+    @Test
+    void getAllTasks_WithCursorAndSize_ShouldPassThemToService() throws Exception {
+        // Arrange
+        CursorPage<Task> page = new CursorPage<>(List.of(testTask), null);
+        when(taskService.findTasks(any(TaskQuery.class), eq("abc"), eq(10))).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("cursor", "abc").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.hasMore", is(false)));
+
+        verify(taskService, times(1)).findTasks(any(TaskQuery.class), eq("abc"), eq(10));
+    }
+
+    @Test
+    void getAllTasks_WithFilters_ShouldBindQuery() throws Exception {
+        // Arrange
+        CursorPage<Task> page = new CursorPage<>(List.of(testTask), null);
+        when(taskService.findTasks(argThat(query -> Boolean.TRUE.equals(query.getCompleted())
+                && "Test".equals(query.getTitlePrefix())
+                && query.getCreatedFrom() != null
+                && "createdAt".equals(query.getSort())
+                && "desc".equals(query.getDirection())), isNull(), eq(20))).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks")
+                .param("completed", "true")
+                .param("titlePrefix", "Test")
+                .param("createdFrom", "2026-01-01T00:00:00")
+                .param("sort", "createdAt")
+                .param("direction", "desc")
+                .param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)));
+    }
+
+    @Test
+    void searchTasks_ShouldReturnRankedPage() throws Exception {
+        // Arrange
+        CursorPage<Task> page = new CursorPage<>(List.of(testTask), "next");
+        when(taskService.searchTasks("test task", null, 50)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/search").param("q", "test task"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].title", is("Test Task")))
+                .andExpect(jsonPath("$.data.nextCursor", is("next")));
+    }
+
+    @Test
+    void getTaskStats_ShouldReturnCounts() throws Exception {
+        // Arrange
+        when(taskService.getTaskStats()).thenReturn(new TaskStats(10L, 4L));
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total", is(10)))
+                .andExpect(jsonPath("$.data.completed", is(4)))
+                .andExpect(jsonPath("$.data.open", is(6)));
+    }
+
+    @Test
+    void getAllTasks_WithFields_ShouldReturnOnlyRequestedFields() throws Exception {
+        // Arrange
+        SparseTask sparse = new SparseTask(1L, 0L, Map.of("id", 1L, "title", "Test Task"));
+        CursorPage<SparseTask> page = new CursorPage<>(List.of(sparse), null);
+        when(taskService.findTasks(any(TaskQuery.class), isNull(), eq(50), eq(Set.of("id", "title"))))
+                .thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "title"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.data.items[0].id", is(1)))
+                .andExpect(jsonPath("$.data.items[0].title", is("Test Task")))
+                .andExpect(jsonPath("$.data.items[0].description").doesNotExist());
+        verify(taskService, never()).findTasks(any(TaskQuery.class), any(), anyInt());
+    }
+
+    @Test
+    void getAllTasks_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/tasks").param("fields", "title,owner"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskById_WithCborAccept_ShouldReturnCborEnvelope() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(testTask);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("status").asText()).isEqualTo("success");
+        assertThat(body.get("data").get("title").asText()).isEqualTo("Test Task");
+    }
+
+    @Test
+    void getTaskById_WithSmileAcceptWhenNotFound_ShouldReturnSmileError() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(999L)).thenThrow(new ResourceNotFoundException("Task", 999L));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/999").accept(WebConfig.APPLICATION_SMILE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(WebConfig.APPLICATION_SMILE))
+                .andReturn();
+
+        // Assert
+        JsonNode body = new SmileMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(body.get("message").asText()).contains("999");
+    }
+
+    @Test
+    void createTask_WithCborBody_ShouldCreateTask() throws Exception {
+        // Arrange
+        Task newTask = new Task("New Task", "New Description", false);
+        Task savedTask = new Task("New Task", "New Description", false);
+        savedTask.setId(3L);
+        when(taskService.createTask(any(Task.class))).thenReturn(savedTask);
+        byte[] body = CBORMapper.builder().findAndAddModules().build().writeValueAsBytes(newTask);
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks").contentType(MediaType.APPLICATION_CBOR).content(body))
+                .andExpect(status().isCreated());
+        verify(taskService).createTask(argThat(task -> "New Task".equals(task.getTitle())));
+    }
 
-        verify(taskService, times(1)).getAllTasks();
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportTasks_ShouldStreamNewlineDelimitedJson() throws Exception {
+        // Arrange
+        Task task2 = new Task("Task 2", "Description 2", true);
+        task2.setId(2L);
+        doAnswer(invocation -> {
+            Consumer<Task> sink = invocation.getArgument(0);
+            sink.accept(testTask);
+            sink.accept(task2);
+            return null;
+        }).when(taskService).exportTasks(any(Consumer.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/tasks/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TaskController.NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], Task.class).getTitle()).isEqualTo("Test Task");
+        assertThat(objectMapper.readValue(lines[1], Task.class).getId()).isEqualTo(2L);
     }
 
     @Test
@@ -87,6 +273,81 @@ class TaskControllerTest {
         verify(taskService, times(1)).getTaskById(1L);
     }
 
+    @Test
+    void getTaskById_ShouldReturnETagFromVersion() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(testTask);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-0\""));
+    }
+
+    @Test
+    void getTaskById_WithCborAccept_ShouldReturnCborETagAndVary() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(testTask);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-0-cbor\""))
+                .andExpect(header().string("Vary", "Accept"));
+    }
+
+    @Test
+    void getTaskById_WithJsonETagAndSmileAccept_ShouldNotReturn304() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(testTask);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1").accept(WebConfig.APPLICATION_SMILE).header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-0-smile\""));
+    }
+
+    @Test
+    void getAllTasks_ShouldReturnDistinctETagPerEncoding() throws Exception {
+        // Arrange
+        CursorPage<Task> page = new CursorPage<>(List.of(testTask), null);
+        when(taskService.findTasks(any(TaskQuery.class), isNull(), eq(50))).thenReturn(page);
+
+        // Act
+        String json = mockMvc.perform(get("/tasks"))
+                .andReturn().getResponse().getHeader("ETag");
+        String cbor = mockMvc.perform(get("/tasks").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("Vary", "Accept"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Assert
+        assertThat(cbor).isNotEqualTo(json).endsWith("-cbor\"");
+    }
+
+    @Test
+    void getTaskById_WithMatchingIfNoneMatch_ShouldReturn304WithoutBody() throws Exception {
+        // Arrange
+        when(taskService.getTaskById(1L)).thenReturn(testTask);
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks/1").header("If-None-Match", "\"1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllTasks_WithMatchingIfNoneMatch_ShouldReturn304() throws Exception {
+        // Arrange
+        CursorPage<Task> page = new CursorPage<>(List.of(testTask), null);
+        when(taskService.findTasks(any(TaskQuery.class), isNull(), eq(50))).thenReturn(page);
+        String etag = mockMvc.perform(get("/tasks"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void getTaskById_WhenNotFound_ShouldReturn404() throws Exception {
         // Arrange
@@ -147,13 +408,51 @@ class TaskControllerTest {
         verify(taskService, never()).createTask(any(Task.class));
     }
 
+    @Test
+    void processBatch_WithValidData_ShouldReturnPerItemResults() throws Exception {
+        // Arrange
+        TaskBatchRequest request = new TaskBatchRequest(
+                List.of(new Task("New Task", "New Description", false)), List.of(), List.of(999L));
+        when(taskService.processBatch(any(TaskBatchRequest.class))).thenReturn(Arrays.asList(
+                TaskBatchResult.success("create", 3L),
+                TaskBatchResult.notFound("delete", 999L)));
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("success")))
+                .andExpect(jsonPath("$.message", is("Batch processed successfully")))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].id", is(3)))
+                .andExpect(jsonPath("$.data[1].status", is("not_found")));
+
+        verify(taskService, times(1)).processBatch(any(TaskBatchRequest.class));
+    }
+
+    @Test
+    void processBatch_WithInvalidTask_ShouldReturn400() throws Exception {
+        // Arrange
+        TaskBatchRequest request = new TaskBatchRequest(
+                List.of(new Task("AB", "Description", false)), List.of(), List.of());
+
+        // Act & Assert
+        mockMvc.perform(post("/tasks/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).processBatch(any(TaskBatchRequest.class));
+    }
+
     @Test
     void updateTask_WithValidData_ShouldReturnSuccessResponse() throws Exception {
         // Arrange
         Task updateDetails = new Task("Updated Task", "Updated Description", true);
         Task updatedTask = new Task("Updated Task", "Updated Description", true);
         updatedTask.setId(1L);
-        when(taskService.updateTask(eq(1L), any(Task.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(1L), any(Task.class), isNull())).thenReturn(updatedTask);
 
         // Act & Assert
         mockMvc.perform(put("/tasks/1")
@@ -163,14 +462,14 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.status", is("success")))
                 .andExpect(jsonPath("$.message", is("Task updated successfully")));
 
-        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class));
+        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class), isNull());
     }
 
     @Test
     void updateTask_WhenNotFound_ShouldReturn404() throws Exception {
         // Arrange
         Task updateDetails = new Task("Updated Task", "Updated Description", true);
-        when(taskService.updateTask(eq(999L), any(Task.class)))
+        when(taskService.updateTask(eq(999L), any(Task.class), isNull()))
                 .thenThrow(new ResourceNotFoundException("Task", 999L));
 
         // Act & Assert
@@ -179,13 +478,76 @@ class TaskControllerTest {
                 .content(objectMapper.writeValueAsString(updateDetails)))
                 .andExpect(status().isNotFound());
 
-        verify(taskService, times(1)).updateTask(eq(999L), any(Task.class));
+        verify(taskService, times(1)).updateTask(eq(999L), any(Task.class), isNull());
+    }
+
+    @Test
+    void updateTask_WithIfMatch_ShouldPassVersionAndReturnNewETag() throws Exception {
+        // Arrange
+        Task updateDetails = new Task("Updated Task", "Updated Description", true);
+        Task updatedTask = new Task("Updated Task", "Updated Description", true);
+        updatedTask.setId(1L);
+        updatedTask.setVersion(3L);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(2L))).thenReturn(updatedTask);
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDetails)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3\""));
+
+        verify(taskService, times(1)).updateTask(eq(1L), any(Task.class), eq(2L));
+    }
+
+    @Test
+    void updateTask_WithCborIfMatch_ShouldPassVersion() throws Exception {
+        // Arrange
+        Task updateDetails = new Task("Updated Task", "Updated Description", true);
+        Task updatedTask = new Task("Updated Task", "Updated Description", true);
+        updatedTask.setId(1L);
+        updatedTask.setVersion(3L);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(2L))).thenReturn(updatedTask);
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-2-cbor\"")
+                .accept(MediaType.APPLICATION_CBOR)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDetails)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3-cbor\""));
+    }
+
+    @Test
+    void updateTask_WhenModifiedConcurrently_ShouldReturn412() throws Exception {
+        // Arrange
+        Task updateDetails = new Task("Updated Task", "Updated Description", true);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Task", 1L));
+
+        // Act & Assert
+        mockMvc.perform(put("/tasks/1")
+                .header("If-Match", "\"1-2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updateDetails)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void deleteTask_WithIfMatchForOtherTask_ShouldReturn412() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/tasks/1").header("If-Match", "\"2-0\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(taskService, never()).deleteTask(any(), any());
     }
 
     @Test
     void deleteTask_WhenExists_ShouldReturnSuccessResponse() throws Exception {
         // Arrange
-        doNothing().when(taskService).deleteTask(1L);
+        doNothing().when(taskService).deleteTask(1L, null);
 
         // Act & Assert
         mockMvc.perform(delete("/tasks/1"))
@@ -193,19 +555,19 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.status", is("success")))
                 .andExpect(jsonPath("$.message", is("Task deleted successfully")));
 
-        verify(taskService, times(1)).deleteTask(1L);
+        verify(taskService, times(1)).deleteTask(1L, null);
     }
 
     @Test
     void deleteTask_WhenNotFound_ShouldReturn404() throws Exception {
         // Arrange
         doThrow(new ResourceNotFoundException("Task", 999L))
-                .when(taskService).deleteTask(999L);
+                .when(taskService).deleteTask(999L, null);
 
         // Act & Assert
         mockMvc.perform(delete("/tasks/999"))
                 .andExpect(status().isNotFound());
 
-        verify(taskService, times(1)).deleteTask(999L);
+        verify(taskService, times(1)).deleteTask(999L, null);
     }
 }
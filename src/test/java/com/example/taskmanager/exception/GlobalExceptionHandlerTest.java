@@ -3,13 +3,17 @@ package com.example.taskmanager.exception;
 import com.example.taskmanager.dto.ErrorResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.util.Collections;
 import java.util.List;
 
@@ -45,6 +49,100 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).contains("Task not found with id: 1");
     }
 
+    @Test
+    void handlePreconditionFailedException_ShouldReturn412() {
+        // Arrange
+        PreconditionFailedException ex = new PreconditionFailedException("Task", 1L);
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handlePreconditionFailedException(ex, webRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Task with id 1 has been modified");
+    }
+
+    @Test
+    void handleConflictException_ShouldReturn409() {
+        // Arrange
+        TaskConflictException ex = new TaskConflictException("Task was modified concurrently");
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleConflictException(ex, webRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Task was modified concurrently, please retry");
+        assertThat(response.getBody().getErrors()).contains("Task was modified concurrently");
+    }
+
+    @Test
+    void handleTaskQueueFullException_ShouldReturn429WithRetryAfter() {
+        // Arrange
+        TaskQueueFullException ex = new TaskQueueFullException("Task queue is full, retry later", 1);
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleTaskQueueFullException(ex, webRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Task queue is full, retry later");
+    }
+
+    @Test
+    void handleServiceUnavailableException_ShouldReturn503WithRetryAfter() {
+        // Arrange
+        ServiceUnavailableException ex = new ServiceUnavailableException("Server is busy, retry later", 1);
+
+        // Act
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleServiceUnavailableException(ex, webRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Server is busy, retry later");
+    }
+
+    @Test
+    void handleCannotCreateTransactionException_WhenPoolTimesOut_ShouldReturn503WithRetryAfter() {
+        // Arrange
+        SQLTransientConnectionException timeout = new SQLTransientConnectionException(
+                "primary - Connection is not available, request timed out after 2000ms.");
+        CannotCreateTransactionException ex = new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction", new RuntimeException(timeout));
+
+        // Act
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleCannotCreateTransactionException(ex, webRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Database connection unavailable, retry later");
+    }
+
+    @Test
+    void handleCannotCreateTransactionException_WhenDatabaseFails_ShouldReturn500() {
+        // Arrange
+        CannotCreateTransactionException ex = new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction",
+                new SQLException("FATAL: password authentication failed"));
+
+        // Act
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleCannotCreateTransactionException(ex, webRequest);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+    }
+
     @Test
     void handleTaskValidationException_ShouldReturn400() {
         // Arrange
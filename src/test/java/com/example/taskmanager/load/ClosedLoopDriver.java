@@ -0,0 +1,71 @@
+package com.example.taskmanager.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP driver for the load tests: keeps a fixed number of GET
+ * requests in flight, each on its own virtual thread, and records the
+ * latency of every request.
+ */
+final class ClosedLoopDriver {
+
+    private final int concurrency;
+
+    ClosedLoopDriver(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sends {@code requests} GETs to the URI, at most {@code concurrency} at a time.
+     * Any status other than 200 counts as an error.
+     */
+    Result drive(URI uri, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder().executor(clients).build();
+            for (int i = 0; i < requests; i++) {
+                int slot = i;
+                inFlight.acquire();
+                clients.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[slot] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(requests * 1e9 / elapsed,
+                latencies[requests / 2], latencies[(int) (requests * 0.99)], errors.get());
+    }
+
+    record Result(double throughput, long p50Nanos, long p99Nanos, int errors) {
+
+        String describe(String mode) {
+            return String.format("%-8s throughput=%.0f req/s p50=%.2f ms p99=%.2f ms errors=%d",
+                    mode, throughput, p50Nanos / 1e6, p99Nanos / 1e6, errors);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.taskmanager.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the task REST API.
+ * Requests are issued on a fixed schedule regardless of how fast earlier ones
+ * complete, and each latency is measured from the request's intended start time,
+ * so a stalled server shows up as latency instead of a lower request rate
+ * (no coordinated omission).
+ */
+class RestLoadGenerator {
+
+    /** Operations the generator can mix, each mapped to one TaskController endpoint. */
+    enum Operation {
+        GET, LIST, CREATE, UPDATE, DELETE
+    }
+
+    private static final int LIST_SIZE = Integer.getInteger("load.list-size", 50);
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final String TASK_JSON =
+            "{\"title\":\"Load task\",\"description\":\"Generated by the load test\",\"completed\":false}";
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final Map<Operation, Integer> mix;
+    private final List<Long> readIds;
+    private final ConcurrentLinkedQueue<Long> deletableIds;
+    private final String acceptEncoding;
+    private final Map<Operation, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<Operation, AtomicLong> errors = new LinkedHashMap<>();
+
+    /**
+     * Constructs a RestLoadGenerator.
+     *
+     * @param baseUri        the application base URI, e.g. http://localhost:8080
+     * @param mix            the relative weight of each operation
+     * @param readIds        ids of existing tasks used by GET and UPDATE
+     * @param deletableIds   ids of existing tasks consumed, once each, by DELETE
+     * @param acceptEncoding the Accept-Encoding header to send on reads, e.g. gzip, or null for none
+     */
+    RestLoadGenerator(URI baseUri, Map<Operation, Integer> mix, List<Long> readIds, List<Long> deletableIds,
+            String acceptEncoding) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.mix = mix;
+        this.readIds = readIds;
+        this.deletableIds = new ConcurrentLinkedQueue<>(deletableIds);
+        this.acceptEncoding = acceptEncoding;
+        for (Operation operation : mix.keySet()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    /**
+     * Parses an operation mix such as {@code get:70,list:20,create:5,update:4,delete:1}.
+     *
+     * @param spec the mix specification
+     * @return the weight of each operation, in the order given
+     */
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * Drives the configured mix at a fixed arrival rate.
+     *
+     * @param requestsPerSecond the arrival rate
+     * @param duration          how long to generate load
+     * @return the wall-clock time until every issued request completed
+     */
+    Duration run(int requestsPerSecond, Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long total = duration.toNanos() / intervalNanos;
+        List<Operation> weighted = weightedOperations();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+            HttpRequest request = buildRequest(operation);
+            if (request == null) {
+                errors.get(operation).incrementAndGet();
+                continue;
+            }
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                        histograms.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(operation).incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(failure -> null)
+                .join();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Formats p50/p99/p99.9 latency and throughput for each operation.
+     *
+     * @param elapsed the duration returned by {@link #run}
+     * @return a printable report
+     */
+    String report(Duration elapsed) {
+        StringBuilder report = new StringBuilder(String.format("%-8s %10s %10s %10s %10s %10s %8s%n",
+                "op", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors"));
+        double seconds = elapsed.toNanos() / 1e9;
+        histograms.forEach((operation, histogram) -> report.append(String.format(
+                "%-8s %10d %10.1f %10.2f %10.2f %10.2f %8d%n",
+                operation.name().toLowerCase(),
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                errors.get(operation).get())));
+        return report.toString();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    private List<Operation> weightedOperations() {
+        List<Operation> weighted = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        return weighted;
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        Long readId = readIds.get(ThreadLocalRandom.current().nextInt(readIds.size()));
+        switch (operation) {
+            case GET:
+                return readRequest(baseUri.resolve("/tasks/" + readId));
+            case LIST:
+                return readRequest(baseUri.resolve("/tasks?size=" + LIST_SIZE));
+            case CREATE:
+                return jsonRequest(baseUri.resolve("/tasks"), "POST");
+            case UPDATE:
+                return jsonRequest(baseUri.resolve("/tasks/" + readId), "PUT");
+            case DELETE:
+                Long deleteId = deletableIds.poll();
+                return deleteId == null
+                        ? null
+                        : HttpRequest.newBuilder(baseUri.resolve("/tasks/" + deleteId)).DELETE().build();
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    private HttpRequest readRequest(URI uri) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).GET();
+        if (acceptEncoding != null) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest jsonRequest(URI uri, String method) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(TASK_JSON))
+                .build();
+    }
+}
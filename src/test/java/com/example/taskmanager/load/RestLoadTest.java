@@ -0,0 +1,90 @@
+package com.example.taskmanager.load;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Macro benchmark for the REST layer: starts TaskManagerApplication and drives a
+ * configurable mix of TaskController operations at a fixed arrival rate.
+ * Excluded from the default build; run with {@code mvn test -Pload-test -Dtest=RestLoadTest}.
+ *
+ * <p>Tunables (system properties): {@code load.rate} requests per second,
+ * {@code load.duration-seconds}, {@code load.mix} such as
+ * {@code get:70,list:20,create:5,update:4,delete:1}, {@code load.seed} tasks to
+ * pre-load, {@code load.list-size} tasks per list request, {@code load.accept-encoding}
+ * (e.g. {@code gzip}, to measure response compression, which the prod profile enables),
+ * and {@code load.profile} ({@code dev} for H2, or {@code prod} with the
+ * SPRING_DATASOURCE_* variables pointing at a local PostgreSQL).
+ *
+ * <p>The admission limiter is turned off, so every request reaches the
+ * controller and any error, including a 503, fails the run.
+ */
+@Tag("load")
+class RestLoadTest {
+
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 30);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 5);
+    private static final int SEED = Integer.getInteger("load.seed", 10_000);
+    private static final String MIX = System.getProperty("load.mix", "get:70,list:20,create:5,update:4,delete:1");
+    private static final String PROFILE = System.getProperty("load.profile", "dev");
+    private static final String ACCEPT_ENCODING = System.getProperty("load.accept-encoding");
+
+    @Test
+    void restApi_UnderFixedArrivalRate() {
+        Map<RestLoadGenerator.Operation, Integer> mix = RestLoadGenerator.parseMix(MIX);
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int deleteWeight = mix.getOrDefault(RestLoadGenerator.Operation.DELETE, 0);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .profiles(PROFILE)
+                .properties("server.port=0", "task.admission.enabled=false")
+                .run()) {
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            List<Long> readIds = seed(taskRepository, SEED);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI baseUri = URI.create("http://localhost:" + port);
+
+            new RestLoadGenerator(baseUri, mix, readIds,
+                    seed(taskRepository, deletesFor(WARMUP_SECONDS, deleteWeight, totalWeight)), ACCEPT_ENCODING)
+                    .run(RATE, Duration.ofSeconds(WARMUP_SECONDS));
+            RestLoadGenerator generator = new RestLoadGenerator(baseUri, mix, readIds,
+                    seed(taskRepository, deletesFor(DURATION_SECONDS, deleteWeight, totalWeight)), ACCEPT_ENCODING);
+            Duration elapsed = generator.run(RATE, Duration.ofSeconds(DURATION_SECONDS));
+
+            System.out.printf("profile=%s rate=%d req/s duration=%ds mix=%s accept-encoding=%s%n",
+                    PROFILE, RATE, DURATION_SECONDS, MIX, ACCEPT_ENCODING);
+            System.out.print(generator.report(elapsed));
+            assertThat(generator.totalErrors()).isZero();
+        }
+    }
+
+    /**
+     * Sizes the pool of deletable tasks with headroom over the expected number of deletes.
+     */
+    private int deletesFor(int seconds, int deleteWeight, int totalWeight) {
+        return (int) ((long) RATE * seconds * deleteWeight / totalWeight * 2 + 100);
+    }
+
+    private List<Long> seed(TaskRepository taskRepository, int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task("Seed task " + i, "Seeded by the load test", i % 2 == 0));
+        }
+        return taskRepository.saveAll(tasks).stream().map(Task::getId).toList();
+    }
+}
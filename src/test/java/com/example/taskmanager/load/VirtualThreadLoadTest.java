@@ -0,0 +1,61 @@
+package com.example.taskmanager.load;
+
+import com.example.taskmanager.TaskManagerApplication;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test comparing GET /tasks/{id} on Tomcat platform threads and on virtual threads.
+ * Excluded from the default build; run with {@code mvn test -Pload-test}.
+ * Point it at a local PostgreSQL with -Dspring.datasource.url=... to see the effect of
+ * real blocking JDBC calls; on in-memory H2 the gap is smaller.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 1000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 50_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup", 5_000);
+
+    @Test
+    void getTaskById_PlatformVersusVirtualThreads() throws Exception {
+        ClosedLoopDriver.Result platform = run(false);
+        ClosedLoopDriver.Result virtual = run(true);
+
+        System.out.printf("GET /tasks/{id}, %d requests, %d concurrent%n", REQUESTS, CONCURRENCY);
+        System.out.println(platform.describe("platform"));
+        System.out.println(virtual.describe("virtual"));
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private ClosedLoopDriver.Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.cache.type=none",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "task.admission.enabled=false",
+                        "spring.datasource.hikari.maximum-pool-size=50")
+                .run()) {
+            Task task = context.getBean(TaskRepository.class)
+                    .save(new Task("Load Task", "Load test description", false));
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/tasks/" + task.getId());
+
+            ClosedLoopDriver driver = new ClosedLoopDriver(CONCURRENCY);
+            driver.drive(uri, WARMUP_REQUESTS);
+            return driver.drive(uri, REQUESTS);
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.example.taskmanager.repository;
 
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.dto.TaskStats;
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskSummary;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,6 +28,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 /**
  * Unit tests for TaskRepository
  * Tests JPA repository operations with in-memory H2 database
+ *
+ * <p>The second-level cache tests run without the rolled-back test transaction,
+ * because the READ_WRITE cache only takes entries from transactions that commit.
  */
 @DataJpaTest
 class TaskRepositoryTest {
@@ -25,6 +41,12 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private Task testTask;
 
     @BeforeEach
@@ -45,6 +67,23 @@ class TaskRepositoryTest {
         assertThat(savedTask.isCompleted()).isFalse();
     }
 
+    @Test
+    void saveAll_ShouldAssignIdsFromPooledSequenceBlock() {
+        // Arrange
+        List<Task> tasks = List.of(
+                new Task("Task 1", "Description 1", false),
+                new Task("Task 2", "Description 2", true),
+                new Task("Task 3", "Description 3", false));
+
+        // Act
+        List<Task> saved = taskRepository.saveAll(tasks);
+
+        // Assert
+        Long firstId = saved.get(0).getId();
+        assertThat(saved).extracting(Task::getId)
+                .containsExactly(firstId, firstId + 1, firstId + 2);
+    }
+
     @Test
     void findById_WhenExists_ShouldReturnTask() {
         // Arrange
@@ -59,6 +98,30 @@ class TaskRepositoryTest {
         assertThat(foundTask.get().getTitle()).isEqualTo("Test Task");
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void findById_WhenLoadedBefore_ShouldHitSecondLevelCache() {
+        // Arrange
+        Long id = taskRepository.save(testTask).getId();
+        try {
+            taskRepository.findById(id);
+            Statistics statistics = statistics();
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Task.CACHE_REGION);
+            long hitsBefore = region.getHitCount();
+            long statementsBefore = statistics.getPrepareStatementCount();
+
+            // Act
+            Optional<Task> foundTask = taskRepository.findById(id);
+
+            // Assert
+            assertThat(foundTask).map(Task::getTitle).contains("Test Task");
+            assertThat(region.getHitCount()).isEqualTo(hitsBefore + 1);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        } finally {
+            taskRepository.deleteById(id);
+        }
+    }
+
     @Test
     void findById_WhenNotExists_ShouldReturnEmpty() {
         // Act
@@ -89,6 +152,40 @@ class TaskRepositoryTest {
                 .containsExactlyInAnyOrder("Task 1", "Task 2", "Task 3");
     }
 
+    @Test
+    void findByIdGreaterThan_ShouldReturnNextKeysetPage() {
+        // Arrange
+        Task task1 = entityManager.persist(new Task("Task 1", "Description 1", false));
+        Task task2 = entityManager.persist(new Task("Task 2", "Description 2", true));
+        Task task3 = entityManager.persist(new Task("Task 3", "Description 3", false));
+        entityManager.flush();
+
+        // Act
+        List<Task> page = taskRepository.findByIdGreaterThanOrderByIdAsc(task1.getId(), Limit.of(1));
+
+        // Assert
+        assertThat(page).extracting(Task::getId).containsExactly(task2.getId());
+        assertThat(taskRepository.findByIdGreaterThanOrderByIdAsc(task3.getId(), Limit.of(10))).isEmpty();
+    }
+
+    @Test
+    void findSummariesByIdGreaterThan_ShouldReturnProjectedPage() {
+        // Arrange
+        Task task1 = entityManager.persist(new Task("Task 1", "Description 1", false));
+        Task task2 = entityManager.persist(new Task("Task 2", "Description 2", true));
+        entityManager.flush();
+
+        // Act
+        List<TaskSummary> page = taskRepository.findSummariesByIdGreaterThanOrderByIdAsc(task1.getId(), Limit.of(10));
+
+        // Assert
+        assertThat(page).hasSize(1);
+        assertThat(page.get(0).getId()).isEqualTo(task2.getId());
+        assertThat(page.get(0).getTitle()).isEqualTo("Task 2");
+        assertThat(page.get(0).isCompleted()).isTrue();
+        assertThat(page.get(0).getVersion()).isEqualTo(task2.getVersion());
+    }
+
     @Test
     void deleteTask_ShouldRemoveTask() {
         // Arrange
@@ -124,4 +221,131 @@ class TaskRepositoryTest {
         assertThat(foundTask.get().getDescription()).isEqualTo("Updated Description");
         assertThat(foundTask.get().isCompleted()).isTrue();
     }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateTask_ShouldKeepOtherTasksInSecondLevelCache() {
+        // Arrange
+        Long updatedId = taskRepository.save(testTask).getId();
+        Long otherId = taskRepository.save(new Task("Other Task", "Other Description", false)).getId();
+        try {
+            taskRepository.findById(updatedId);
+            taskRepository.findById(otherId);
+            Statistics statistics = statistics();
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(Task.CACHE_REGION);
+
+            // Act
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    taskRepository.findById(updatedId).orElseThrow().setTitle("Updated Title"));
+            long hitsBefore = region.getHitCount();
+            long statementsBefore = statistics.getPrepareStatementCount();
+            Optional<Task> otherTask = taskRepository.findById(otherId);
+
+            // Assert
+            assertThat(otherTask).map(Task::getTitle).contains("Other Task");
+            assertThat(region.getHitCount()).isEqualTo(hitsBefore + 1);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+            assertThat(taskRepository.findById(updatedId)).map(Task::getTitle).contains("Updated Title");
+        } finally {
+            taskRepository.deleteAllById(List.of(updatedId, otherId));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateTask_WhenCached_ShouldIssueOnlyTheUpdate() {
+        // Arrange
+        Long id = taskRepository.save(testTask).getId();
+        try {
+            taskRepository.findById(id);
+            Statistics statistics = statistics();
+            long statementsBefore = statistics.getPrepareStatementCount();
+
+            // Act
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    taskRepository.findById(id).orElseThrow().setTitle("Updated Title"));
+
+            // Assert
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore + 1);
+            assertThat(taskRepository.findById(id)).map(Task::getVersion).contains(1L);
+        } finally {
+            taskRepository.deleteById(id);
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void deleteTask_WhenCached_ShouldIssueOnlyTheDelete() {
+        // Arrange
+        Long id = taskRepository.save(testTask).getId();
+        taskRepository.findById(id);
+        Statistics statistics = statistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                taskRepository.delete(taskRepository.findById(id).orElseThrow()));
+
+        // Assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore + 1);
+        assertThat(taskRepository.existsById(id)).isFalse();
+    }
+
+    @Test
+    void findBySpecification_ShouldFilterAndContinueAfterKeyset() {
+        // Arrange
+        Task alpha = entityManager.persist(new Task("Alpha 1", "Description", false));
+        Task alpha2 = entityManager.persist(new Task("Alpha 2", "Description", false));
+        entityManager.persist(new Task("Alpha 3", "Description", true));
+        entityManager.persist(new Task("Beta 1", "Description", false));
+        entityManager.flush();
+        TaskQuery query = new TaskQuery();
+        query.setCompleted(false);
+        query.setTitlePrefix("Alpha");
+        Sort sort = Sort.by(Sort.Direction.ASC, "title", "id");
+
+        // Act
+        List<Task> firstPage = taskRepository.findBy(TaskSpecifications.matching(query),
+                q -> q.sortBy(sort).limit(1).all());
+        List<Task> secondPage = taskRepository.findBy(TaskSpecifications.matching(query)
+                        .and(TaskSpecifications.after("title", true, alpha.getTitle(), alpha.getId())),
+                q -> q.sortBy(sort).limit(10).all());
+
+        // Assert
+        assertThat(firstPage).extracting(Task::getId).containsExactly(alpha.getId());
+        assertThat(secondPage).extracting(Task::getId).containsExactly(alpha2.getId());
+        assertThat(alpha.getCreatedAt()).isNotNull();
+        assertThat(alpha.getUpdatedAt()).isNotNull();
+    }
+
+    @Test
+    void countStats_ShouldCountTotalAndCompleted() {
+        // Arrange
+        entityManager.persist(new Task("Task 1", "Description 1", false));
+        entityManager.persist(new Task("Task 2", "Description 2", true));
+        entityManager.persist(new Task("Task 3", "Description 3", true));
+        entityManager.flush();
+
+        // Act
+        TaskStats stats = taskRepository.countStats();
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getCompleted()).isEqualTo(2);
+        assertThat(stats.getOpen()).isEqualTo(1);
+    }
+
+    @Test
+    void countStats_WhenEmpty_ShouldReturnZeros() {
+        // Act
+        TaskStats stats = taskRepository.countStats();
+
+        // Assert
+        assertThat(stats.getTotal()).isZero();
+        assertThat(stats.getCompleted()).isZero();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
 }
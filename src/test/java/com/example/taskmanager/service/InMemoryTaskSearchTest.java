@@ -0,0 +1,120 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InMemoryTaskSearch
+ * Tests indexing, ranking and removal with a mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+class InMemoryTaskSearchTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private InMemoryTaskSearch taskSearch;
+
+    private Task titleMatch;
+    private Task descriptionMatch;
+    private Task otherTask;
+
+    @BeforeEach
+    void setUp() {
+        taskSearch = new InMemoryTaskSearch(taskRepository);
+        titleMatch = task(1L, "Write quarterly report", "Numbers for finance");
+        descriptionMatch = task(2L, "Finance meeting", "Review the quarterly report draft");
+        otherTask = task(3L, "Buy groceries", "Milk and bread");
+        List.of(titleMatch, descriptionMatch, otherTask).forEach(taskSearch::index);
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesFirst() {
+        // Arrange
+        stubFindAllById(titleMatch, descriptionMatch, otherTask);
+
+        // Act
+        List<Task> results = taskSearch.search("Quarterly REPORT", 0, 10);
+
+        // Assert
+        assertThat(results).containsExactly(titleMatch, descriptionMatch);
+    }
+
+    @Test
+    void search_ShouldRequireEveryTerm() {
+        // Act
+        List<Task> results = taskSearch.search("report groceries", 0, 10);
+
+        // Assert
+        assertThat(results).isEmpty();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void search_ShouldApplyOffsetAndLimit() {
+        // Arrange
+        stubFindAllById(titleMatch, descriptionMatch, otherTask);
+
+        // Act
+        List<Task> results = taskSearch.search("finance", 1, 1);
+
+        // Assert
+        assertThat(results).containsExactly(titleMatch);
+    }
+
+    @Test
+    void index_AfterUpdate_ShouldReplaceOldTerms() {
+        // Arrange
+        Task updated = task(3L, "Buy stationery", "Paper and pens");
+        stubFindAllById(updated);
+
+        // Act
+        taskSearch.index(updated);
+
+        // Assert
+        assertThat(taskSearch.search("groceries", 0, 10)).isEmpty();
+        assertThat(taskSearch.search("stationery", 0, 10)).containsExactly(updated);
+    }
+
+    @Test
+    void remove_ShouldDropTaskFromResults() {
+        // Arrange
+        stubFindAllById(titleMatch, descriptionMatch, otherTask);
+
+        // Act
+        taskSearch.remove(List.of(1L));
+
+        // Assert
+        assertThat(taskSearch.search("quarterly", 0, 10)).containsExactly(descriptionMatch);
+    }
+
+    private void stubFindAllById(Task... tasks) {
+        Map<Long, Task> byId = List.of(tasks).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        when(taskRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().filter(byId::containsKey).map(byId::get).toList();
+        });
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Task task = new Task(title, description, false);
+        task.setId(id);
+        return task;
+    }
+}
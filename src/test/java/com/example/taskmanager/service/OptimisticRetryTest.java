@@ -0,0 +1,81 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.TaskConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for OptimisticRetry
+ */
+class OptimisticRetryTest {
+
+    private MeterRegistry meterRegistry;
+    private OptimisticRetry optimisticRetry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        optimisticRetry = new OptimisticRetry(meterRegistry, 3, 1, 2);
+    }
+
+    @Test
+    void execute_WhenFirstAttemptSucceeds_ShouldNotRetry() {
+        // Act
+        String result = optimisticRetry.execute(() -> "done");
+
+        // Assert
+        assertThat(result).isEqualTo("done");
+        assertThat(meterRegistry.counter("tasks.optimistic.conflicts").count()).isZero();
+    }
+
+    @Test
+    void execute_WhenConflictClears_ShouldRetryAndCountConflicts() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = optimisticRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return "done";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("done");
+        assertThat(meterRegistry.counter("tasks.optimistic.conflicts").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("tasks.optimistic.retries").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("tasks.optimistic.exhausted").count()).isZero();
+    }
+
+    @Test
+    void execute_WhenAttemptsExhausted_ShouldThrowConflict() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThatThrownBy(() -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        }))
+                .isInstanceOf(TaskConflictException.class)
+                .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("tasks.optimistic.exhausted").count()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_WithNoAttempts_ShouldReject() {
+        // Act & Assert
+        assertThatThrownBy(() -> new OptimisticRetry(meterRegistry, 0, 1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
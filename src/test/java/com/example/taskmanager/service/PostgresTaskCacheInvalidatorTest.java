@@ -0,0 +1,213 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PostgresTaskCacheInvalidator
+ * Tests coalescing, payload splitting and eviction with a stand-in for pg_notify
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresTaskCacheInvalidatorTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private org.springframework.cache.Cache taskCache;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache hibernateCache;
+
+    @Mock
+    private TaskStatsCounters taskStatsCounters;
+
+    private final List<String> payloads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(hibernateCache);
+        lenient().when(cacheManager.getCache(TaskService.TASK_CACHE)).thenReturn(taskCache);
+    }
+
+    @Test
+    void flush_ShouldCoalesceIdsIntoOneNotification() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(100);
+        invalidator.invalidate(List.of(1L, 2L));
+        invalidator.invalidate(List.of(2L, 3L));
+
+        // Act
+        invalidator.flush();
+        invalidator.flush();
+
+        // Assert
+        assertThat(payloads).hasSize(1);
+        assertThat(ids(payloads.get(0))).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    void flush_WhenMoreThanMaxIdsPending_ShouldPublishEvictAll() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(2);
+        invalidator.invalidate(List.of(1L, 2L, 3L));
+
+        // Act
+        invalidator.flush();
+
+        // Assert
+        assertThat(payloads).hasSize(1);
+        assertThat(body(payloads.get(0))).isEqualTo(PostgresTaskCacheInvalidator.ALL);
+    }
+
+    @Test
+    void flush_WhenIdsExceedPayloadLimit_ShouldSplitNotifications() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(10_000);
+        List<Long> changed = LongStream.range(1_000_000_000_000L, 1_000_000_002_000L).boxed().toList();
+        invalidator.invalidate(changed);
+
+        // Act
+        invalidator.flush();
+
+        // Assert
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allMatch(payload -> payload.length() < 8000);
+        assertThat(payloads.stream().flatMap(payload -> ids(payload).stream()))
+                .containsExactlyInAnyOrderElementsOf(changed);
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldPublishOnlyAfterCommit() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(100);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidator.invalidate(List.of(1L));
+
+            // Act
+            invalidator.flush();
+            List<String> beforeCommit = List.copyOf(payloads);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            invalidator.flush();
+
+            // Assert
+            assertThat(beforeCommit).isEmpty();
+            assertThat(payloads).hasSize(1);
+            assertThat(ids(payloads.get(0))).containsExactly(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void handle_FromOtherInstance_ShouldEvictIdsAndQueries() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(100);
+
+        // Act
+        invalidator.handle("other-node:1,2");
+
+        // Assert
+        verify(taskCache).evict(1L);
+        verify(taskCache).evict(2L);
+        verify(hibernateCache).evictEntityData(Task.class, 1L);
+        verify(hibernateCache).evictEntityData(Task.class, 2L);
+        verify(hibernateCache).evictQueryRegion(Task.QUERY_CACHE_REGION);
+        verify(taskStatsCounters).markStale();
+    }
+
+    @Test
+    void handle_CreateOnly_ShouldEvictQueriesAndMarkStatsStale() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(100);
+
+        // Act
+        invalidator.handle("other-node:");
+
+        // Assert
+        verifyNoInteractions(taskCache);
+        verify(hibernateCache).evictQueryRegion(Task.QUERY_CACHE_REGION);
+        verify(taskStatsCounters).markStale();
+    }
+
+    @Test
+    void handle_EvictAll_ShouldClearEveryTask() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(100);
+
+        // Act
+        invalidator.handle("other-node:" + PostgresTaskCacheInvalidator.ALL);
+
+        // Assert
+        verify(taskCache).clear();
+        verify(hibernateCache).evictEntityData(Task.class);
+        verify(hibernateCache).evictQueryRegion(Task.QUERY_CACHE_REGION);
+        verify(taskStatsCounters).markStale();
+    }
+
+    @Test
+    void handle_OwnNotification_ShouldBeIgnored() {
+        // Arrange
+        PostgresTaskCacheInvalidator invalidator = newInvalidator(100);
+        invalidator.invalidate(List.of(1L));
+        invalidator.flush();
+
+        // Act
+        invalidator.handle(payloads.get(0));
+
+        // Assert
+        verifyNoInteractions(taskCache, hibernateCache, taskStatsCounters);
+    }
+
+    private PostgresTaskCacheInvalidator newInvalidator(int maxIds) {
+        JdbcTemplate notifier = new JdbcTemplate() {
+            @Override
+            public List<Map<String, Object>> queryForList(String sql, Object... args) {
+                assertThat(sql).isEqualTo(PostgresTaskCacheInvalidator.NOTIFY_SQL);
+                assertThat(args[0]).isEqualTo(PostgresTaskCacheInvalidator.CHANNEL);
+                payloads.add((String) args[1]);
+                return List.of();
+            }
+        };
+        return new PostgresTaskCacheInvalidator(notifier, cacheManager, entityManagerFactory,
+                taskStatsCounters, new SimpleMeterRegistry(), Duration.ofMillis(100), maxIds);
+    }
+
+    private static String body(String payload) {
+        return payload.substring(payload.indexOf(':') + 1);
+    }
+
+    private static List<Long> ids(String payload) {
+        return Arrays.stream(body(payload).split(",")).map(Long::valueOf).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the task cache in front of TaskService
+ * Tests read-through caching and write invalidation with a mocked repository
+ */
+@SpringBootTest
+class TaskServiceCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    private Task testTask;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(TaskService.TASK_CACHE).clear();
+        testTask = new Task("Test Task", "Test Description", false);
+        testTask.setId(1L);
+    }
+
+    @Test
+    void getTaskById_WhenCalledTwice_ShouldHitRepositoryOnce() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act
+        taskService.getTaskById(1L);
+        Task cachedTask = taskService.getTaskById(1L);
+
+        // Assert
+        assertThat(cachedTask.getTitle()).isEqualTo("Test Task");
+        verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void updateTask_WithExpectedVersion_ShouldEvictCachedTask() {
+        // Arrange
+        testTask.setVersion(0L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        taskService.getTaskById(1L);
+
+        // Act
+        taskService.updateTask(1L, new Task("Updated Title", "Updated Description", true), 0L);
+        taskService.getTaskById(1L);
+
+        // Assert
+        verify(taskRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void updateTask_WithoutExpectedVersion_ShouldEvictCachedTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        taskService.getTaskById(1L);
+
+        // Act
+        taskService.updateTask(1L, new Task("Updated Title", "Updated Description", true), null);
+        taskService.getTaskById(1L);
+
+        // Assert
+        verify(taskRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void deleteTask_ShouldEvictCachedTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        taskService.getTaskById(1L);
+
+        // Act
+        taskService.deleteTask(1L, null);
+        taskService.getTaskById(1L);
+
+        // Assert
+        verify(taskRepository, times(3)).findById(1L);
+    }
+}
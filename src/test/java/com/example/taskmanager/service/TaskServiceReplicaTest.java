@@ -0,0 +1,112 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ReadYourWritesFilter;
+import com.example.taskmanager.config.ReplicaRoutingDataSource;
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Integration tests for TaskService with a read replica configured
+ * Tests that reads served by a lagging replica stay on the replica but are never cached
+ */
+@SpringBootTest(properties = "spring.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1")
+class TaskServiceReplicaTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReadYourWritesFilter filter;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    private final List<CacheMode> cacheModes = new ArrayList<>();
+
+    private Task primaryCopy;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(TaskService.TASK_CACHE).clear();
+        primaryCopy = new Task("Test Task", "Test Description", false);
+        primaryCopy.setId(1L);
+        Task replicaCopy = new Task("Test Task", "Test Description", false);
+        replicaCopy.setId(1L);
+        when(taskRepository.findById(1L)).thenAnswer(invocation -> {
+            cacheModes.add(entityManager.unwrap(Session.class).getCacheMode());
+            return Optional.of(onReplica() ? replicaCopy : primaryCopy);
+        });
+    }
+
+    @Test
+    void getTaskById_AfterWrite_ShouldReadReplicaWithoutCachingIt() throws Exception {
+        // Arrange
+        MockHttpServletResponse writerResponse = new MockHttpServletResponse();
+        MockHttpServletRequest writerRead = new MockHttpServletRequest("GET", "/tasks/1");
+        List<Task> reads = new ArrayList<>();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("PUT", "/tasks/1"), writerResponse, (req, res) ->
+                taskService.updateTask(1L, new Task("Updated Title", "Updated Description", true), null));
+        cacheModes.clear();
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), new MockHttpServletResponse(),
+                (req, res) -> reads.add(taskService.getTaskById(1L)));
+        writerRead.setCookies(writerResponse.getCookie(ReadYourWritesFilter.COOKIE));
+        filter.doFilter(writerRead, new MockHttpServletResponse(),
+                (req, res) -> reads.add(taskService.getTaskById(1L)));
+
+        // Assert
+        assertThat(reads).extracting(Task::getTitle).containsExactly("Test Task", "Updated Title");
+        assertThat(cacheModes).containsExactly(CacheMode.GET, CacheMode.NORMAL);
+        Cache.ValueWrapper cached = cacheManager.getCache(TaskService.TASK_CACHE).get(1L);
+        assertThat(cached).isNotNull();
+        assertThat(((Task) cached.get()).getTitle()).isEqualTo("Updated Title");
+    }
+
+    @Test
+    void getTaskById_OnReplica_ShouldNotFillTaskCache() throws Exception {
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/tasks/1"), new MockHttpServletResponse(),
+                (req, res) -> taskService.getTaskById(1L));
+
+        // Assert
+        assertThat(cacheManager.getCache(TaskService.TASK_CACHE).get(1L)).isNull();
+    }
+
+    /** Asks the routing data source which pool the current thread's connection would come from. */
+    private boolean onReplica() throws Exception {
+        try (Connection connection = dataSource.unwrap(ReplicaRoutingDataSource.class).getConnection()) {
+            return connection.getMetaData().getURL().startsWith("jdbc:h2:mem:replica");
+        }
+    }
+}
@@ -1,21 +1,43 @@
 package com.example.taskmanager.service;
 
+import com.example.taskmanager.dto.CursorPage;
+import com.example.taskmanager.dto.SparseTask;
+import com.example.taskmanager.dto.TaskBatchRequest;
+import com.example.taskmanager.dto.TaskBatchResult;
+import com.example.taskmanager.dto.TaskQuery;
+import com.example.taskmanager.exception.PreconditionFailedException;
 import com.example.taskmanager.exception.ResourceNotFoundException;
+import com.example.taskmanager.exception.TaskConflictException;
+import com.example.taskmanager.exception.TaskValidationException;
 import com.example.taskmanager.model.Task;
+import com.example.taskmanager.model.TaskSummary;
 import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -29,13 +51,28 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskSearch taskSearch;
+
+    @Mock
+    private TaskStatsCounters taskStatsCounters;
+
+    @Mock
+    private TaskCacheInvalidator taskCacheInvalidator;
+
     private TaskService taskService;
 
     private Task testTask;
 
     @BeforeEach
     void setUp() {
+        OptimisticRetry optimisticRetry = new OptimisticRetry(new SimpleMeterRegistry(), 3, 0, 0);
+        taskService = new TaskService(taskRepository, entityManager,
+                TransactionOperations.withoutTransaction(), optimisticRetry, taskSearch,
+                taskStatsCounters, taskCacheInvalidator);
         testTask = new Task("Test Task", "Test Description", false);
         testTask.setId(1L);
     }
@@ -57,6 +94,204 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).findAll();
     }
 
+    @Test
+    void getTaskPage_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        // Arrange
+        Task task2 = new Task("Task 2", "Description 2", true);
+        task2.setId(2L);
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testTask, task2));
+
+        // Act
+        CursorPage<Task> page = taskService.getTaskPage(null, 1);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(testTask);
+        assertThat(page.getNextCursor()).isEqualTo(TaskCursor.encode(1L));
+        assertThat(page.isHasMore()).isTrue();
+    }
+
+    @Test
+    void getTaskPage_OnLastPage_ShouldReturnNoCursor() {
+        // Arrange
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(11)))
+                .thenReturn(List.of());
+
+        // Act
+        CursorPage<Task> page = taskService.getTaskPage(TaskCursor.encode(1L), 10);
+
+        // Assert
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    void getTaskPage_WithInvalidSize_ShouldThrowException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskPage(null, TaskService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(TaskValidationException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskPage_WithMalformedCursor_ShouldThrowException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.getTaskPage("not a cursor!", 10))
+                .isInstanceOf(TaskValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void findTasks_WhenUnfiltered_ShouldUseIdKeyset() {
+        // Arrange
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11)))
+                .thenReturn(List.of(testTask));
+
+        // Act
+        CursorPage<Task> page = taskService.findTasks(new TaskQuery(), null, 10);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(testTask);
+        verify(taskRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findTasks_WhenFiltered_ShouldReturnSortKeysetCursor() {
+        // Arrange
+        testTask.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0));
+        Task task2 = new Task("Task 2", "Description 2", false);
+        task2.setId(2L);
+        TaskQuery query = new TaskQuery();
+        query.setCompleted(false);
+        query.setSort("createdAt");
+        query.setDirection("desc");
+        when(taskRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenReturn(Arrays.asList(testTask, task2));
+
+        // Act
+        CursorPage<Task> page = taskService.findTasks(query, null, 1);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(testTask);
+        TaskCursor.Position position = TaskCursor.decode(page.getNextCursor(), TaskSortField.CREATED_AT);
+        assertThat(position.id()).isEqualTo(1L);
+        assertThat(position.value()).isEqualTo(testTask.getCreatedAt());
+    }
+
+    @Test
+    void findTasks_WithUnknownSort_ShouldThrowException() {
+        // Arrange
+        TaskQuery query = new TaskQuery();
+        query.setSort("description");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.findTasks(query, null, 10))
+                .isInstanceOf(TaskValidationException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void findTasks_WithCursorFromAnotherSort_ShouldThrowException() {
+        // Arrange
+        testTask.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0));
+        String cursor = TaskCursor.encode(TaskSortField.CREATED_AT, testTask);
+        TaskQuery query = new TaskQuery();
+        query.setSort("title");
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.findTasks(query, cursor, 10))
+                .isInstanceOf(TaskValidationException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void findTasks_WithSummaryFields_ShouldSelectSummaryProjection() {
+        // Arrange
+        when(taskRepository.findSummariesByIdGreaterThanOrderByIdAsc(0L, Limit.of(2)))
+                .thenReturn(List.of(summary(1L, "Test Task"), summary(2L, "Task 2")));
+
+        // Act
+        CursorPage<SparseTask> page = taskService.findTasks(new TaskQuery(), null, 1, TaskFields.parse("title"));
+
+        // Assert
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getFields()).containsExactly(entry("id", 1L), entry("title", "Test Task"));
+        assertThat(page.getNextCursor()).isEqualTo(TaskCursor.encode(1L));
+        verify(taskRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    void findTasks_WithFieldsOutsideSummary_ShouldTrimFullTasks() {
+        // Arrange
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(11))).thenReturn(List.of(testTask));
+
+        // Act
+        CursorPage<SparseTask> page = taskService.findTasks(new TaskQuery(), null, 10,
+                TaskFields.parse("description,completed"));
+
+        // Assert
+        assertThat(page.getItems().get(0).getFields()).containsExactly(
+                entry("id", 1L), entry("description", "Test Description"), entry("completed", false));
+    }
+
+    @Test
+    void searchTasks_WhenMoreHitsExist_ShouldReturnOffsetCursor() {
+        // Arrange
+        Task task2 = new Task("Task 2", "Description 2", false);
+        task2.setId(2L);
+        when(taskSearch.search("task", 0, 2)).thenReturn(Arrays.asList(testTask, task2));
+
+        // Act
+        CursorPage<Task> page = taskService.searchTasks("task", null, 1);
+
+        // Assert
+        assertThat(page.getItems()).containsExactly(testTask);
+        assertThat(TaskCursor.decodeOffset(page.getNextCursor())).isEqualTo(1);
+    }
+
+    @Test
+    void searchTasks_AtResultCap_ShouldReturnNoCursor() {
+        // Arrange
+        String cursor = TaskCursor.encodeOffset(TaskService.MAX_SEARCH_RESULTS - 10);
+        when(taskSearch.search("task", TaskService.MAX_SEARCH_RESULTS - 10, 11))
+                .thenReturn(Collections.nCopies(11, testTask));
+
+        // Act
+        CursorPage<Task> page = taskService.searchTasks("task", cursor, 50);
+
+        // Assert
+        assertThat(page.getItems()).hasSize(10);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void searchTasks_WithBlankQuery_ShouldThrowException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.searchTasks(" ", null, 10))
+                .isInstanceOf(TaskValidationException.class)
+                .hasMessage("Search query is required");
+        verifyNoInteractions(taskSearch);
+    }
+
+    @Test
+    void exportTasks_ShouldPassEachTaskToSinkAndDetachIt() {
+        // Arrange
+        Task task2 = new Task("Task 2", "Description 2", true);
+        task2.setId(2L);
+        when(taskRepository.streamAll()).thenReturn(Stream.of(testTask, task2));
+        List<Task> exported = new ArrayList<>();
+
+        // Act
+        taskService.exportTasks(exported::add);
+
+        // Assert
+        assertThat(exported).containsExactly(testTask, task2);
+        verify(entityManager, times(1)).detach(testTask);
+        verify(entityManager, times(1)).detach(task2);
+    }
+
     @Test
     void getTaskById_WhenTaskExists_ShouldReturnTask() {
         // Arrange
@@ -100,6 +335,7 @@ class TaskServiceTest {
         assertThat(actualTask.getId()).isEqualTo(3L);
         assertThat(actualTask.getTitle()).isEqualTo("New Task");
         verify(taskRepository, times(1)).save(newTask);
+        verify(taskSearch).index(savedTask);
     }
 
     @Test
@@ -107,17 +343,38 @@ class TaskServiceTest {
         // Arrange
         Task updateDetails = new Task("Updated Title", "Updated Description", true);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
 
         // Act
-        Task updatedTask = taskService.updateTask(1L, updateDetails);
+        Task updatedTask = taskService.updateTask(1L, updateDetails, null);
 
         // Assert
+        assertThat(updatedTask).isSameAs(testTask);
         assertThat(updatedTask.getTitle()).isEqualTo("Updated Title");
         assertThat(updatedTask.getDescription()).isEqualTo("Updated Description");
         assertThat(updatedTask.isCompleted()).isTrue();
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(testTask);
+        verify(taskRepository, times(1)).flush();
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskSearch).index(testTask);
+        verify(taskCacheInvalidator).invalidate(List.of(1L));
+    }
+
+    @Test
+    void updateTask_InsideTransaction_ShouldIndexOnlyAfterCommit() {
+        // Arrange
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            taskService.updateTask(1L, updateDetails, null);
+            verify(taskSearch, never()).index(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            verify(taskSearch).index(testTask);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -127,25 +384,146 @@ class TaskServiceTest {
         when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> taskService.updateTask(999L, updateDetails))
+        assertThatThrownBy(() -> taskService.updateTask(999L, updateDetails, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Task not found with id: 999");
-        verify(taskRepository, times(1)).findById(999L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, never()).flush();
+        verifyNoInteractions(taskCacheInvalidator);
     }
 
     @Test
-    void deleteTask_WhenTaskExists_ShouldDeleteTask() {
+    void updateTask_WithCurrentVersion_ShouldUpdateTask() {
         // Arrange
+        testTask.setVersion(4L);
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        doNothing().when(taskRepository).delete(testTask);
 
         // Act
-        taskService.deleteTask(1L);
+        Task updatedTask = taskService.updateTask(1L, updateDetails, 4L);
 
         // Assert
+        assertThat(updatedTask.getTitle()).isEqualTo("Updated Title");
+        verify(taskRepository, times(1)).flush();
+        verify(entityManager, never()).refresh(any());
+    }
+
+    @Test
+    void updateTask_WithStaleVersion_ShouldThrowPreconditionFailed() {
+        // Arrange
+        testTask.setVersion(4L);
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateDetails, 3L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("Task with id 1 has been modified");
+        verify(entityManager).refresh(testTask);
+        verify(taskRepository, never()).flush();
+        assertThat(testTask.getTitle()).isEqualTo("Test Task");
+    }
+
+    @Test
+    void updateTask_WhenCachedCopyLagsExpectedVersion_ShouldUpdateAfterRefresh() {
+        // Arrange
+        testTask.setVersion(3L);
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        doAnswer(invocation -> {
+            testTask.setVersion(4L);
+            return null;
+        }).when(entityManager).refresh(testTask);
+
+        // Act
+        Task updatedTask = taskService.updateTask(1L, updateDetails, 4L);
+
+        // Assert
+        assertThat(updatedTask.getTitle()).isEqualTo("Updated Title");
+        verify(taskRepository, times(1)).flush();
+    }
+
+    @Test
+    void updateTask_WhenConditionalWriteConflictsOnFlush_ShouldThrowPreconditionFailed() {
+        // Arrange
+        testTask.setVersion(4L);
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        doThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L)).when(taskRepository).flush();
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.updateTask(1L, updateDetails, 4L))
+                .isInstanceOf(PreconditionFailedException.class);
         verify(taskRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void updateTask_WhenUnconditionalWriteConflicts_ShouldRetryAndSucceed() {
+        // Arrange
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        doThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L))
+                .doNothing()
+                .when(taskRepository).flush();
+
+        // Act
+        Task updatedTask = taskService.updateTask(1L, updateDetails, null);
+
+        // Assert
+        assertThat(updatedTask.getTitle()).isEqualTo("Updated Title");
+        verify(taskRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void deleteTask_WithStaleVersion_ShouldThrowPreconditionFailed() {
+        // Arrange
+        testTask.setVersion(4L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.deleteTask(1L, 3L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(taskRepository, never()).delete(any(Task.class));
+    }
+
+    @Test
+    void updateTask_ShouldRecordCompletionChange() {
+        // Arrange
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act
+        taskService.updateTask(1L, updateDetails, null);
+
+        // Assert
+        verify(taskStatsCounters).record(0, 1);
+    }
+
+    @Test
+    void deleteTask_ShouldRecordRemovedTask() {
+        // Arrange
+        testTask.setCompleted(true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act
+        taskService.deleteTask(1L, null);
+
+        // Assert
+        verify(taskStatsCounters).record(-1, -1);
+    }
+
+    @Test
+    void deleteTask_WhenTaskExists_ShouldDeleteTask() {
+        // Arrange
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // Act
+        taskService.deleteTask(1L, null);
+
+        // Assert
         verify(taskRepository, times(1)).delete(testTask);
+        verify(taskRepository, times(1)).flush();
+        verify(taskSearch).remove(List.of(1L));
+        verify(taskCacheInvalidator).invalidate(List.of(1L));
     }
 
     @Test
@@ -154,10 +532,124 @@ class TaskServiceTest {
         when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> taskService.deleteTask(999L))
+        assertThatThrownBy(() -> taskService.deleteTask(999L, null))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Task not found with id: 999");
-        verify(taskRepository, times(1)).findById(999L);
         verify(taskRepository, never()).delete(any(Task.class));
     }
+
+    @Test
+    void processBatch_ShouldCreateUpdateAndDeleteInOnePass() {
+        // Arrange
+        Task newTask = new Task("New Task", "New Description", false);
+        Task savedTask = new Task("New Task", "New Description", false);
+        savedTask.setId(3L);
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        updateDetails.setId(1L);
+        Task toDelete = new Task("Old Task", "Old Description", true);
+        toDelete.setId(2L);
+        TaskBatchRequest request = new TaskBatchRequest(
+                List.of(newTask), List.of(updateDetails), List.of(2L, 999L));
+        when(taskRepository.findAllById(any())).thenReturn(Arrays.asList(testTask, toDelete));
+        when(taskRepository.saveAll(List.of(newTask))).thenReturn(List.of(savedTask));
+
+        // Act
+        List<TaskBatchResult> results = taskService.processBatch(request);
+
+        // Assert
+        assertThat(results).extracting(TaskBatchResult::getOperation)
+                .containsExactly("create", "update", "delete", "delete");
+        assertThat(results).extracting(TaskBatchResult::getId)
+                .containsExactly(3L, 1L, 2L, 999L);
+        assertThat(results).extracting(TaskBatchResult::getStatus)
+                .containsExactly("success", "success", "success", "not_found");
+        assertThat(testTask.getTitle()).isEqualTo("Updated Title");
+        assertThat(testTask.isCompleted()).isTrue();
+        verify(taskRepository, times(1)).findAllById(any());
+        verify(taskRepository, times(1)).deleteAll(List.of(toDelete));
+        verify(taskSearch).reindex(List.of(3L, 1L));
+        verify(taskSearch).remove(List.of(2L));
+        verify(taskCacheInvalidator).invalidate(List.of(1L, 2L));
+    }
+
+    @Test
+    void processBatch_WhenConflictIsTransient_ShouldRetryAndSucceed() {
+        // Arrange
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        updateDetails.setId(1L);
+        TaskBatchRequest request = new TaskBatchRequest(List.of(), List.of(updateDetails), List.of());
+        when(taskRepository.findAllById(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L))
+                .thenReturn(List.of(testTask));
+
+        // Act
+        List<TaskBatchResult> results = taskService.processBatch(request);
+
+        // Assert
+        assertThat(results).extracting(TaskBatchResult::getStatus).containsExactly("success");
+        verify(taskRepository, times(2)).findAllById(any());
+    }
+
+    @Test
+    void processBatch_WhenConflictPersists_ShouldThrowConflictAfterMaxAttempts() {
+        // Arrange
+        Task updateDetails = new Task("Updated Title", "Updated Description", true);
+        updateDetails.setId(1L);
+        TaskBatchRequest request = new TaskBatchRequest(List.of(), List.of(updateDetails), List.of());
+        when(taskRepository.findAllById(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.processBatch(request))
+                .isInstanceOf(TaskConflictException.class)
+                .hasMessageContaining("after 3 attempts");
+        verify(taskRepository, times(3)).findAllById(any());
+    }
+
+    @Test
+    void processBatch_WithInvalidItems_ShouldRejectWholeBatch() {
+        // Arrange
+        Task missingId = new Task("Updated Title", "Updated Description", true);
+        TaskBatchRequest request = new TaskBatchRequest(
+                List.of(), List.of(missingId), List.of(5L, 5L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.processBatch(request))
+                .isInstanceOf(TaskValidationException.class)
+                .satisfies(ex -> assertThat(((TaskValidationException) ex).getErrors())
+                        .containsExactly("update[0].id: Id is required", "delete[1]: Duplicate id 5"));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void processBatch_WhenEmpty_ShouldThrowException() {
+        // Act & Assert
+        assertThatThrownBy(() -> taskService.processBatch(new TaskBatchRequest()))
+                .isInstanceOf(TaskValidationException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static TaskSummary summary(Long id, String title) {
+        return new TaskSummary() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public boolean isCompleted() {
+                return false;
+            }
+
+            @Override
+            public Long getVersion() {
+                return 0L;
+            }
+        };
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.model.Task;
+import com.example.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the transaction boundaries of TaskService
+ * Tests the transaction and session settings the repository sees on the read path
+ */
+@SpringBootTest(properties = "spring.cache.type=none")
+class TaskServiceTransactionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @Test
+    void getTaskPage_ShouldRunInReadOnlyTransactionWithManualFlush() {
+        // Arrange
+        List<Object> observed = new ArrayList<>();
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenAnswer(invocation -> {
+            Session session = entityManager.unwrap(Session.class);
+            observed.add(TransactionSynchronizationManager.isActualTransactionActive());
+            observed.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            observed.add(session.getHibernateFlushMode());
+            observed.add(session.isDefaultReadOnly());
+            return List.of(new Task("Test Task", "Test Description", false));
+        });
+
+        // Act
+        taskService.getTaskPage(null, 1);
+
+        // Assert
+        assertThat(observed).containsExactly(true, true, FlushMode.MANUAL, true);
+    }
+}
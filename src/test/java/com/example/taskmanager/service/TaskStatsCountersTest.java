@@ -0,0 +1,172 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.config.ReplicaRoutingDataSource;
+import com.example.taskmanager.dto.TaskStats;
+import com.example.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskStatsCounters
+ * Tests counter maintenance, resync and resync rate limiting with a mocked repository
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskStatsCountersTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Test
+    void getStats_ShouldSyncOnceThenServeFromCounters() {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, true, Duration.ofMinutes(5), Duration.ZERO);
+        when(taskRepository.countStats()).thenReturn(new TaskStats(10L, 4L));
+
+        // Act
+        counters.getStats();
+        counters.record(1, 1);
+        counters.record(-1, 0);
+        TaskStats stats = counters.getStats();
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(10);
+        assertThat(stats.getCompleted()).isEqualTo(5);
+        assertThat(stats.getOpen()).isEqualTo(5);
+        verify(taskRepository, times(1)).countStats();
+    }
+
+    @Test
+    void getStats_AfterMarkStale_ShouldResync() {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, true, Duration.ofMinutes(5), Duration.ZERO);
+        when(taskRepository.countStats()).thenReturn(new TaskStats(10L, 4L), new TaskStats(12L, 5L));
+        counters.getStats();
+
+        // Act
+        counters.markStale();
+        TaskStats stats = counters.getStats();
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(12);
+        assertThat(stats.getCompleted()).isEqualTo(5);
+        verify(taskRepository, times(2)).countStats();
+    }
+
+    @Test
+    void getStats_AfterMarkStaleWithinMinInterval_ShouldServeCounters() {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, true, Duration.ofMinutes(5),
+                Duration.ofMinutes(1));
+        when(taskRepository.countStats()).thenReturn(new TaskStats(10L, 4L));
+        counters.getStats();
+
+        // Act
+        counters.markStale();
+        counters.markStale();
+        TaskStats stats = counters.getStats();
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(10);
+        verify(taskRepository, times(1)).countStats();
+    }
+
+    @Test
+    void getStats_WhenStaleReadersQueue_ShouldResyncOnce() throws Exception {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, true, Duration.ofMinutes(5), Duration.ZERO);
+        when(taskRepository.countStats()).thenReturn(new TaskStats(10L, 4L));
+        counters.getStats();
+        counters.markStale();
+        CountDownLatch inResync = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.countStats()).thenAnswer(invocation -> {
+            inResync.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new TaskStats(12L, 5L);
+        });
+
+        // Act
+        CompletableFuture<TaskStats> first = CompletableFuture.supplyAsync(counters::getStats);
+        inResync.await(5, TimeUnit.SECONDS);
+        Thread second = new Thread(counters::getStats);
+        second.start();
+        while (second.isAlive() && second.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        second.join(5_000);
+
+        // Assert
+        assertThat(first.get(5, TimeUnit.SECONDS).getTotal()).isEqualTo(12);
+        verify(taskRepository, times(2)).countStats();
+    }
+
+    @Test
+    void resync_ShouldReadCountsFromPrimary() {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, true, Duration.ofMinutes(5), Duration.ZERO);
+        List<Boolean> pinned = new ArrayList<>();
+        when(taskRepository.countStats()).thenAnswer(invocation -> {
+            pinned.add(ReplicaRoutingDataSource.isPinned());
+            return new TaskStats(1L, 0L);
+        });
+
+        // Act
+        counters.resync();
+
+        // Assert
+        assertThat(pinned).containsExactly(true);
+        assertThat(ReplicaRoutingDataSource.isPinned()).isFalse();
+    }
+
+    @Test
+    void getStats_WhenDisabled_ShouldQueryEveryTime() {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, false, Duration.ofMinutes(5), Duration.ZERO);
+        when(taskRepository.countStats()).thenReturn(new TaskStats(3L, 1L));
+
+        // Act
+        counters.record(1, 1);
+        counters.getStats();
+        TaskStats stats = counters.getStats();
+
+        // Assert
+        assertThat(stats.getTotal()).isEqualTo(3);
+        verify(taskRepository, times(2)).countStats();
+    }
+
+    @Test
+    void record_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        TaskStatsCounters counters = new TaskStatsCounters(taskRepository, true, Duration.ofMinutes(5), Duration.ZERO);
+        when(taskRepository.countStats()).thenReturn(new TaskStats(0L, 0L));
+        counters.resync();
+
+        // Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.record(1, 0);
+            assertThat(counters.getStats().getTotal()).isZero();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Assert
+        assertThat(counters.getStats().getTotal()).isEqualTo(1);
+    }
+}
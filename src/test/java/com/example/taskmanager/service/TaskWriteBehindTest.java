@@ -0,0 +1,174 @@
+package com.example.taskmanager.service;
+
+import com.example.taskmanager.exception.TaskQueueFullException;
+import com.example.taskmanager.model.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TaskWriteBehind
+ * Tests queueing, backpressure, batching and draining with a mocked service
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskWriteBehindTest {
+
+    @Mock
+    private TaskIdAllocator idAllocator;
+
+    @Mock
+    private TaskService taskService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AtomicLong ids = new AtomicLong();
+        lenient().when(idAllocator.next()).thenAnswer(invocation -> ids.incrementAndGet());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehind != null && writeBehind.isRunning()) {
+            writeBehind.stop();
+        }
+    }
+
+    @Test
+    void enqueue_ShouldAssignIdAndTimestamps() {
+        // Arrange
+        writeBehind = newWriteBehind(10, 5);
+        writeBehind.start();
+
+        // Act
+        Task accepted = writeBehind.enqueue(new Task("New Task", "New Description", true));
+
+        // Assert
+        assertThat(accepted.getId()).isEqualTo(1L);
+        assertThat(accepted.getVersion()).isZero();
+        assertThat(accepted.getCreatedAt()).isNotNull().isEqualTo(accepted.getUpdatedAt());
+        assertThat(accepted.isCompleted()).isTrue();
+        assertThat(meterRegistry.get("tasks.write_behind.accepted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueue_WhenQueueFull_ShouldReject() throws Exception {
+        // Arrange
+        writeBehind = newWriteBehind(1, 1);
+        CountDownLatch writing = blockWriter();
+        writeBehind.start();
+        writeBehind.enqueue(new Task("First Task", null, false));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        writeBehind.enqueue(new Task("Second Task", null, false));
+
+        // Act & Assert
+        assertThatThrownBy(() -> writeBehind.enqueue(new Task("Third Task", null, false)))
+                .isInstanceOf(TaskQueueFullException.class);
+        assertThat(writeBehind.getQueueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("tasks.write_behind.queue.depth").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("tasks.write_behind.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueue_BeforeStart_ShouldReject() {
+        // Arrange
+        writeBehind = newWriteBehind(10, 5);
+
+        // Act & Assert
+        assertThatThrownBy(() -> writeBehind.enqueue(new Task("New Task", null, false)))
+                .isInstanceOf(TaskQueueFullException.class);
+        verifyNoInteractions(idAllocator);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void stop_ShouldDrainQueueInBatches() {
+        // Arrange
+        writeBehind = newWriteBehind(100, 4);
+        List<Integer> batchSizes = new ArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(((List<Task>) invocation.getArgument(0)).size());
+            return null;
+        }).when(taskService).insertAll(anyList());
+        writeBehind.start();
+        for (int i = 0; i < 10; i++) {
+            writeBehind.enqueue(new Task("Task " + i, null, false));
+        }
+
+        // Act
+        writeBehind.stop();
+
+        // Assert
+        assertThat(batchSizes).allMatch(size -> size <= 4);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+        assertThat(writeBehind.getQueueDepth()).isZero();
+        assertThat(meterRegistry.get("tasks.write_behind.written").counter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WhenBatchFails_ShouldRetryTasksIndividually() {
+        // Arrange
+        writeBehind = newWriteBehind(10, 5);
+        Task good = task(1L, "Good Task");
+        Task bad = task(2L, "Bad Task");
+        doAnswer(invocation -> {
+            if (((List<Task>) invocation.getArgument(0)).contains(bad)) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return null;
+        }).when(taskService).insertAll(anyList());
+
+        // Act
+        writeBehind.flush(List.of(good, bad));
+
+        // Assert
+        verify(taskService).insertAll(List.of(good));
+        verify(taskService).insertAll(List.of(bad));
+        assertThat(meterRegistry.get("tasks.write_behind.written").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("tasks.write_behind.failed").counter().count()).isEqualTo(1);
+    }
+
+    private TaskWriteBehind newWriteBehind(int capacity, int batchSize) {
+        return new TaskWriteBehind(idAllocator, taskService, meterRegistry, capacity, batchSize,
+                Duration.ofSeconds(5));
+    }
+
+    /**
+     * Makes each insert stall for a while, so tasks enqueued meanwhile stay
+     * queued. Returns a latch released once the writer is inside an insert.
+     */
+    private CountDownLatch blockWriter() {
+        CountDownLatch writing = new CountDownLatch(1);
+        lenient().doAnswer(invocation -> {
+            writing.countDown();
+            TimeUnit.SECONDS.sleep(1);
+            return null;
+        }).when(taskService).insertAll(anyList());
+        return writing;
+    }
+
+    private static Task task(Long id, String title) {
+        Task task = new Task(title, null, false);
+        task.setId(id);
+        return task;
+    }
+}